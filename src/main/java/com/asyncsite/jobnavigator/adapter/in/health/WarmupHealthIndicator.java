@@ -0,0 +1,30 @@
+package com.asyncsite.jobnavigator.adapter.in.health;
+
+import com.asyncsite.jobnavigator.application.service.WarmupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 예열 상태 (readiness 그룹에 포함)
+ * 예열이 끝나거나 기한이 지나기 전까지 OUT_OF_SERVICE로 보고해 트래픽을 받지 않는다.
+ * 전체 /actuator/health 집계에도 포함되므로, 컨테이너 healthcheck는 예열과 무관한 liveness 그룹을 본다.
+ */
+@Component("warmup")
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupService warmupService;
+
+    @Override
+    public Health health() {
+        if (warmupService.isCompleted()) {
+            return Health.up().build();
+        }
+        if (warmupService.isDeadlineExceeded()) {
+            return Health.up().withDetail("deadlineExceeded", true).build();
+        }
+        return Health.outOfService().withDetail("warmingUp", true).build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.asyncsite.jobnavigator.adapter.in.queue;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 내 수집 큐 (Redis 없이 로컬 실행/테스트용)
+ * 메시지는 {@link #offer}로 넣고, dead-letter는 {@link #deadLetters}로 확인한다.
+ */
+@Component
+@ConditionalOnProperty(name = "job-navigator.ingest.queue.type", havingValue = "memory")
+public class InMemoryJobIngestQueue implements JobIngestQueue {
+
+    private final BlockingDeque<String> queue = new LinkedBlockingDeque<>();
+    private final List<String> processing = new ArrayList<>();
+    private final List<String> deadLetters = new ArrayList<>();
+    private final Map<String, Integer> failures = new HashMap<>();
+
+    /**
+     * 메시지 추가 (크롤러의 LPUSH에 해당)
+     */
+    public void offer(String message) {
+        queue.offerFirst(message);
+    }
+
+    /**
+     * dead-letter로 옮겨진 메시지 목록 ("사유: 메시지" 형식)
+     */
+    public synchronized List<String> deadLetters() {
+        return List.copyOf(deadLetters);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public List<String> poll(int maxMessages, Duration maxWait) throws InterruptedException {
+        String first = queue.pollLast(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<String> messages = new ArrayList<>(maxMessages);
+        messages.add(first);
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (messages.size() < maxMessages) {
+            String next = queue.pollLast(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            messages.add(next);
+        }
+        synchronized (this) {
+            processing.addAll(messages);
+        }
+        return messages;
+    }
+
+    @Override
+    public synchronized void ack(List<String> messages) {
+        messages.forEach(message -> {
+            processing.remove(message);
+            failures.remove(message);
+        });
+    }
+
+    @Override
+    public synchronized int recordFailure(String message) {
+        return failures.merge(message, 1, Integer::sum);
+    }
+
+    @Override
+    public synchronized void deadLetter(String message, String reason) {
+        processing.remove(message);
+        failures.remove(message);
+        deadLetters.add(reason + ": " + message);
+    }
+
+    @Override
+    public synchronized void requeue(List<String> messages) {
+        messages.forEach(message -> {
+            processing.remove(message);
+            queue.offerLast(message);
+        });
+    }
+
+    @Override
+    public synchronized int recover() {
+        int recovered = processing.size();
+        processing.forEach(queue::offerLast);
+        processing.clear();
+        return recovered;
+    }
+}
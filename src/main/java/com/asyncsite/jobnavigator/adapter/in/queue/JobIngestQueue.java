@@ -0,0 +1,47 @@
+package com.asyncsite.jobnavigator.adapter.in.queue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 채용공고 수집 큐 (신뢰성 큐 패턴)
+ * 꺼낸 메시지는 처리 중 목록으로 옮겨 두고, 처리가 커밋된 뒤 {@link #ack}로 지운다.
+ * 처리 도중 종료되면 다음 기동 시 {@link #recover}로 대기 큐에 되돌린다.
+ */
+public interface JobIngestQueue {
+
+    /**
+     * 마이크로 배치 꺼내기
+     * 첫 메시지는 최대 maxWait까지 기다리고, 이후에는 maxMessages가 차거나 첫 메시지부터 maxWait가 지날 때까지 모은다.
+     * @return 꺼낸 메시지 목록 (시간 내에 없으면 빈 목록)
+     */
+    List<String> poll(int maxMessages, Duration maxWait) throws InterruptedException;
+
+    /**
+     * 처리 완료된 메시지를 처리 중 목록에서 제거 (실패 횟수도 초기화)
+     */
+    void ack(List<String> messages);
+
+    /**
+     * 저장 실패 횟수 기록 (ack 또는 dead-letter 시 초기화)
+     * @return 이 메시지의 누적 실패 횟수
+     */
+    int recordFailure(String message);
+
+    /**
+     * 처리할 수 없는 메시지를 dead-letter 목록으로 옮김 (실패 횟수도 초기화)
+     * @param reason 실패 사유
+     */
+    void deadLetter(String message, String reason);
+
+    /**
+     * 일시적 오류로 처리하지 못한 메시지를 대기 큐에 되돌림
+     */
+    void requeue(List<String> messages);
+
+    /**
+     * 이전 실행에서 처리 중 목록에 남은 메시지를 대기 큐에 되돌림
+     * @return 되돌린 메시지 수
+     */
+    int recover();
+}
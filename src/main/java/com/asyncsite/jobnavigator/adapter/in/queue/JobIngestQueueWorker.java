@@ -0,0 +1,238 @@
+package com.asyncsite.jobnavigator.adapter.in.queue;
+
+import com.asyncsite.jobnavigator.adapter.in.web.JobController.JobBatchRequest;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.BatchSaveOptions;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.BatchSaveResult;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.ItemResult;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.ItemStatus;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.SaveJobCommand;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 수집 큐 소비자
+ * 큐에서 공고 메시지(POST /api/jobs/batch 요청 항목과 같은 JSON)를 마이크로 배치로 꺼내 upsert로 저장한다.
+ * 동시에 저장하는 배치 수는 소비 스레드 수(concurrency)로 제한한다.
+ * 저장은 청크별로 커밋된 뒤 반환되므로, 반환 후에 ack하면 커밋 전에 메시지를 잃지 않는다.
+ * 파싱할 수 없거나 검증에 실패한 메시지는 dead-letter로 보내고, 저장 자체가 실패하면 배치를 대기 큐에 되돌린다.
+ * 저장 실패는 메시지별로 횟수를 세고, max-attempts번 실패한 배치는 한 건씩 다시 저장해
+ * 혼자서도 실패하는 메시지만 dead-letter로 보낸다 (함께 묶인 정상 메시지는 저장).
+ * DB 연결 실패 같은 일시적 오류는 메시지 탓이 아니므로 횟수를 세지 않고 되돌린다.
+ */
+@Component
+@ConditionalOnProperty(name = "job-navigator.ingest.queue.enabled", havingValue = "true")
+@Slf4j
+public class JobIngestQueueWorker {
+
+    private final JobIngestQueue queue;
+    private final SaveJobUseCase saveJobUseCase;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration maxWait;
+    private final int concurrency;
+    private final Duration retryBackoff;
+    private final int maxAttempts;
+    private final List<Thread> consumers = new ArrayList<>();
+    private volatile boolean running;
+
+    public JobIngestQueueWorker(
+            JobIngestQueue queue,
+            SaveJobUseCase saveJobUseCase,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${job-navigator.ingest.queue.batch-size:100}") int batchSize,
+            @Value("${job-navigator.ingest.queue.max-wait:PT1S}") Duration maxWait,
+            @Value("${job-navigator.ingest.queue.concurrency:2}") int concurrency,
+            @Value("${job-navigator.ingest.queue.retry-backoff:PT5S}") Duration retryBackoff,
+            @Value("${job-navigator.ingest.queue.max-attempts:3}") int maxAttempts) {
+        this.queue = queue;
+        this.saveJobUseCase = saveJobUseCase;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxWait = maxWait;
+        this.concurrency = concurrency;
+        this.retryBackoff = retryBackoff;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        int recovered = queue.recover();
+        if (recovered > 0) {
+            log.info("Returned {} in-flight ingest messages to the queue", recovered);
+        }
+        running = true;
+        for (int i = 0; i < concurrency; i++) {
+            consumers.add(Thread.ofVirtual().name("job-ingest-" + i).start(this::consume));
+        }
+        log.info("Started {} ingest queue consumers (batch size {}, max wait {})", concurrency, batchSize, maxWait);
+    }
+
+    /**
+     * 진행 중인 배치는 끝까지 처리하고 종료 (블로킹 대기 중인 소비자는 maxWait 안에 빠져나온다)
+     */
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        long joinMillis = Math.max(maxWait.toMillis(), 1000) + 5000;
+        for (Thread consumer : consumers) {
+            consumer.join(joinMillis);
+        }
+        consumers.clear();
+    }
+
+    private void consume() {
+        while (running) {
+            try {
+                List<String> messages = queue.poll(batchSize, maxWait);
+                if (!messages.isEmpty()) {
+                    process(messages);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Ingest queue consumer failed, backing off {}: {}", retryBackoff, e.getMessage());
+                if (!sleep(retryBackoff)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 꺼낸 메시지 배치 하나를 저장하고 ack, dead-letter 또는 되돌리기까지 처리
+     */
+    void process(List<String> messages) {
+        List<String> parsedMessages = new ArrayList<>(messages.size());
+        List<SaveJobCommand> commands = new ArrayList<>(messages.size());
+        for (String message : messages) {
+            try {
+                commands.add(objectMapper.readValue(message, JobBatchRequest.class).toCommand());
+                parsedMessages.add(message);
+            } catch (JsonProcessingException e) {
+                deadLetter(message, "Malformed message: " + e.getOriginalMessage(), "malformed");
+            }
+        }
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        BatchSaveResult result;
+        try {
+            result = saveJobUseCase.saveJobs(commands, new BatchSaveOptions(true, null));
+        } catch (RuntimeException e) {
+            handleFailedBatch(parsedMessages, commands, e);
+            return;
+        }
+        complete(parsedMessages, result);
+    }
+
+    /**
+     * 저장이 실패한 배치 처리
+     * 일시적 오류이거나 아직 max-attempts번 실패하지 않았으면 배치 전체를 되돌리고,
+     * 그 이상 실패했으면 한 건씩 저장해 실패 원인 메시지만 dead-letter로 보낸다.
+     */
+    private void handleFailedBatch(List<String> messages, List<SaveJobCommand> commands, RuntimeException e) {
+        if (isTransient(e)) {
+            log.warn("Failed to save ingest batch of {} messages (transient), requeueing: {}", messages.size(), e.getMessage());
+            queue.requeue(messages);
+            sleep(retryBackoff);
+            return;
+        }
+        int attempts = 0;
+        for (String message : messages) {
+            attempts = Math.max(attempts, queue.recordFailure(message));
+        }
+        if (attempts < maxAttempts) {
+            log.warn("Failed to save ingest batch of {} messages (attempt {}/{}), requeueing: {}",
+                    messages.size(), attempts, maxAttempts, e.getMessage());
+            queue.requeue(messages);
+            sleep(retryBackoff);
+            return;
+        }
+
+        log.warn("Ingest batch of {} messages failed {} times, retrying messages one at a time: {}",
+                messages.size(), attempts, e.getMessage());
+        for (int i = 0; i < messages.size(); i++) {
+            String message = messages.get(i);
+            try {
+                complete(List.of(message), saveJobUseCase.saveJobs(List.of(commands.get(i)), new BatchSaveOptions(true, null)));
+            } catch (RuntimeException single) {
+                if (isTransient(single)) {
+                    // 남은 메시지는 원인을 가릴 수 없으므로 그대로 되돌린다
+                    queue.requeue(messages.subList(i, messages.size()));
+                    sleep(retryBackoff);
+                    return;
+                }
+                deadLetter(message, "Failed to save after " + attempts + " attempts: " + single.getMessage(), "failed");
+            }
+        }
+    }
+
+    private void complete(List<String> messages, BatchSaveResult result) {
+        List<String> completed = new ArrayList<>(messages.size());
+        for (ItemResult item : result.items()) {
+            String message = messages.get(item.index());
+            String status = item.status().name().toLowerCase(Locale.ROOT);
+            if (item.status() == ItemStatus.INVALID) {
+                deadLetter(message, item.reason(), status);
+            } else {
+                completed.add(message);
+                meterRegistry.counter("job.ingest.queue.messages", "status", status).increment();
+            }
+        }
+        queue.ack(completed);
+        log.debug("Processed ingest batch: {} acknowledged, {} dead-lettered",
+                completed.size(), messages.size() - completed.size());
+    }
+
+    /**
+     * 메시지와 무관하게 재시도하면 성공할 수 있는 오류 (DB 연결/일시적 오류)
+     */
+    private static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void deadLetter(String message, String reason, String status) {
+        log.warn("Dead-lettering ingest message: {}", reason);
+        queue.deadLetter(message, reason);
+        meterRegistry.counter("job.ingest.queue.messages", "status", status).increment();
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.asyncsite.jobnavigator.adapter.in.queue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 리스트 기반 수집 큐
+ * 크롤러가 LPUSH한 메시지를 BRPOPLPUSH로 처리 중 목록에 옮기며 꺼낸다.
+ * 처리 중 목록은 인스턴스 간에 공유하므로 recover 시 다른 인스턴스의 처리 중 메시지가 다시 처리될 수 있다.
+ * 저장이 upsert라 같은 메시지를 다시 처리해도 결과는 같다.
+ * 메시지별 저장 실패 횟수는 해시(필드는 메시지의 SHA-256)에 기록해 인스턴스 간에 공유한다.
+ */
+@Component
+@ConditionalOnProperty(name = "job-navigator.ingest.queue.type", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisJobIngestQueue implements JobIngestQueue {
+
+    /** 첫 메시지 이후 추가 메시지를 기다릴 때의 재확인 간격 */
+    private static final long LINGER_POLL_MILLIS = 20;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String queueKey;
+    private final String processingKey;
+    private final String deadLetterKey;
+    private final String attemptsKey;
+
+    public RedisJobIngestQueue(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${job-navigator.ingest.queue.key:jobs:queue}") String queueKey,
+            @Value("${job-navigator.ingest.queue.processing-key:jobs:processing}") String processingKey,
+            @Value("${job-navigator.ingest.queue.dead-letter-key:jobs:failed}") String deadLetterKey,
+            @Value("${job-navigator.ingest.queue.attempts-key:jobs:attempts}") String attemptsKey) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.queueKey = queueKey;
+        this.processingKey = processingKey;
+        this.deadLetterKey = deadLetterKey;
+        this.attemptsKey = attemptsKey;
+    }
+
+    @Override
+    public List<String> poll(int maxMessages, Duration maxWait) throws InterruptedException {
+        ListOperations<String, String> lists = redisTemplate.opsForList();
+        // Redis 블로킹 대기는 초 단위라 1초 미만은 1초로 올린다
+        long blockSeconds = Math.max(1, (maxWait.toMillis() + 999) / 1000);
+        String first = lists.rightPopAndLeftPush(queueKey, processingKey, blockSeconds, TimeUnit.SECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<String> messages = new ArrayList<>(maxMessages);
+        messages.add(first);
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (messages.size() < maxMessages) {
+            String next = lists.rightPopAndLeftPush(queueKey, processingKey);
+            if (next != null) {
+                messages.add(next);
+            } else if (System.nanoTime() < deadline) {
+                Thread.sleep(LINGER_POLL_MILLIS);
+            } else {
+                break;
+            }
+        }
+        return messages;
+    }
+
+    @Override
+    public void ack(List<String> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                messages.forEach(message -> {
+                    redis.opsForList().remove(processingKey, 1, message);
+                    redis.opsForHash().delete(attemptsKey, digest(message));
+                });
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public int recordFailure(String message) {
+        Long attempts = redisTemplate.opsForHash().increment(attemptsKey, digest(message), 1);
+        return attempts != null ? attempts.intValue() : 1;
+    }
+
+    @Override
+    public void deadLetter(String message, String reason) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("message", message);
+        entry.put("reason", reason);
+        entry.put("failedAt", Instant.now().toString());
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            payload = message;
+        }
+        redisTemplate.opsForList().leftPush(deadLetterKey, payload);
+        redisTemplate.opsForList().remove(processingKey, 1, message);
+        redisTemplate.opsForHash().delete(attemptsKey, digest(message));
+    }
+
+    @Override
+    public void requeue(List<String> messages) {
+        for (String message : messages) {
+            // 대기 큐의 꺼내는 쪽(오른쪽)에 넣어 다음에 먼저 처리
+            redisTemplate.opsForList().rightPush(queueKey, message);
+            redisTemplate.opsForList().remove(processingKey, 1, message);
+        }
+    }
+
+    @Override
+    public int recover() {
+        int recovered = 0;
+        while (redisTemplate.opsForList().rightPopAndLeftPush(processingKey, queueKey) != null) {
+            recovered++;
+        }
+        return recovered;
+    }
+
+    private static String digest(String message) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(message.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
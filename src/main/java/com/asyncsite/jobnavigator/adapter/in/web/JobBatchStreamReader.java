@@ -0,0 +1,75 @@
+package com.asyncsite.jobnavigator.adapter.in.web;
+
+import com.asyncsite.jobnavigator.adapter.in.web.JobController.JobBatchRequest;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.SaveJobCommand;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 채용공고 일괄 등록 본문을 항목 단위로 읽는 반복자 (Jackson 스트리밍 파서)
+ * JSON 배열과 NDJSON(최상위 객체의 연속)을 모두 받으며, 한 번에 항목 하나만 객체로 만든다.
+ * 본문 형식이 잘못되면 몇 번째 항목인지 담아 IllegalArgumentException을 던진다.
+ */
+class JobBatchStreamReader implements Iterator<SaveJobCommand>, Closeable {
+
+    private final JsonParser parser;
+    private final boolean array;
+    private JsonToken current;
+    private int index;
+
+    JobBatchStreamReader(ObjectMapper objectMapper, InputStream body) throws IOException {
+        this.parser = objectMapper.createParser(body);
+        try {
+            JsonToken first = parser.nextToken();
+            this.array = first == JsonToken.START_ARRAY;
+            this.current = array ? parser.nextToken() : first;
+        } catch (JsonProcessingException e) {
+            parser.close();
+            throw invalidBody(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current == null || (array && current == JsonToken.END_ARRAY)) {
+            return false;
+        }
+        if (current != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException(index + "번째 항목이 JSON 객체가 아닙니다.");
+        }
+        return true;
+    }
+
+    @Override
+    public SaveJobCommand next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            JobBatchRequest request = parser.readValueAs(JobBatchRequest.class);
+            current = parser.nextToken();
+            index++;
+            return request.toCommand();
+        } catch (IOException e) {
+            throw invalidBody(e);
+        }
+    }
+
+    private IllegalArgumentException invalidBody(IOException e) {
+        String reason = e instanceof JsonProcessingException processing ? processing.getOriginalMessage() : e.getMessage();
+        return new IllegalArgumentException(index + "번째 항목을 읽을 수 없습니다: " + reason, e);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -1,5 +1,6 @@
 package com.asyncsite.jobnavigator.adapter.in.web;
 
+import com.asyncsite.jobnavigator.adapter.in.web.dto.CacheEvictionResponse;
 import com.asyncsite.jobnavigator.adapter.in.web.dto.JobItemResponse;
 import com.asyncsite.jobnavigator.adapter.in.web.dto.JobSearchResponse;
 import com.asyncsite.jobnavigator.adapter.in.web.mapper.JobWebMapper;
@@ -8,19 +9,28 @@ import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase;
 import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase;
 import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsCommand;
 import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsResult;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.BatchSaveOptions;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.BatchSaveResult;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.ItemStatus;
 import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.SaveJobCommand;
 import com.asyncsite.jobnavigator.application.port.in.EvictAllCachesUseCase;
+import com.asyncsite.jobnavigator.application.port.in.EvictAllCachesUseCase.EvictAllCachesResult;
 import com.asyncsite.jobnavigator.domain.Job;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -37,6 +47,7 @@ public class JobController {
     private final SaveJobUseCase saveJobUseCase;
     private final EvictAllCachesUseCase evictAllCachesUseCase;
     private final JobWebMapper jobWebMapper;
+    private final ObjectMapper objectMapper;
     
     @GetMapping
     @Operation(summary = "채용공고 검색", description = "조건에 맞는 채용공고를 검색합니다.")
@@ -48,18 +59,20 @@ public class JobController {
             @Parameter(description = "검색 키워드") @RequestParam(required = false) String keyword,
             @Parameter(description = "회사 ID 목록") @RequestParam(required = false) List<Long> companyIds,
             @Parameter(description = "기술 스택 ID 목록") @RequestParam(required = false) List<Long> techStackIds,
-            @Parameter(description = "경력 수준") @RequestParam(required = false) String experienceLevel,
-            @Parameter(description = "고용 형태") @RequestParam(required = false) String jobType,
-            @Parameter(description = "근무 지역") @RequestParam(required = false) String location,
+            @Parameter(description = "경력 수준 (ENTRY, JUNIOR, MID, SENIOR, LEAD, ANY / 쉼표로 여러 개 지정 시 OR)") @RequestParam(required = false) String experienceLevel,
+            @Parameter(description = "고용 형태 (FULLTIME, CONTRACT, INTERN, PARTTIME / 쉼표로 여러 개 지정 시 OR)") @RequestParam(required = false) String jobType,
+            @Parameter(description = "근무 지역 (쉼표로 여러 개 지정 시 OR)") @RequestParam(required = false) String location,
             @Parameter(description = "활성 상태") @RequestParam(required = false, defaultValue = "true") Boolean isActive,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "postedAt") String sortBy,
-            @Parameter(description = "정렬 방향 (ASC/DESC)") @RequestParam(defaultValue = "DESC") String sortDirection
+            @Parameter(description = "정렬 기준 (relevance/postedAt/expiresAt/createdAt/matchScore, relevance는 키워드 검색 시에만 적용)") @RequestParam(defaultValue = "postedAt") String sortBy,
+            @Parameter(description = "정렬 방향 (ASC/DESC)") @RequestParam(defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page는 무시)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "매칭 점수 계산에 쓸 사용자 보유 기술 스택 ID 목록 (matchScore 정렬 시 필수)") @RequestParam(required = false) List<Long> userTechStackIds
     ) {
         SearchJobsCommand command = new SearchJobsCommand(
                 keyword, companyIds, techStackIds, experienceLevel, jobType,
-                location, isActive, page, size, sortBy, sortDirection
+                location, isActive, page, size, sortBy, sortDirection, cursor, userTechStackIds
         );
         
         SearchJobsResult result = searchJobsUseCase.searchJobs(command);
@@ -81,46 +94,87 @@ public class JobController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/{id}/raw")
+    @Operation(summary = "채용공고 원본 HTML 조회", description = "수집 시 저장한 원본 HTML을 반환합니다. " +
+            "외부 페이지이므로 스크립트가 실행되지 않도록 sandbox CSP와 함께 응답합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "원본 HTML이 없음")
+    })
+    public ResponseEntity<String> getJobRawHtml(
+            @Parameter(description = "채용공고 ID", required = true) @PathVariable Long id
+    ) {
+        String rawHtml = getJobDetailUseCase.getJobRawHtml(id);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .header("Content-Security-Policy", "sandbox")
+                .header("X-Content-Type-Options", "nosniff")
+                .body(rawHtml);
+    }
+    
     @PostMapping("/batch")
-    @Operation(summary = "채용공고 일괄 등록 (내부용)", description = "크롤러로부터 채용공고 데이터를 수신하여 저장합니다.")
+    @Operation(summary = "채용공고 일괄 등록 (내부용)", description = "크롤러로부터 채용공고 데이터를 수신하여 저장합니다. " +
+            "항목별 결과(CREATED/UPDATED/UNCHANGED/DUPLICATE/INVALID)를 반환하므로 실패한 항목만 다시 보내면 됩니다.")
     @ApiResponses({
-        @ApiResponse(responseCode = "201", description = "저장 성공"),
-        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
-        @ApiResponse(responseCode = "409", description = "중복된 채용공고 (source_url)")
+        @ApiResponse(responseCode = "201", description = "처리 완료 (항목별 상태는 items 참조)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
     })
     public ResponseEntity<JobBatchResponse> saveJobBatch(
-            @RequestBody List<JobBatchRequest> requests
+            @RequestBody List<JobBatchRequest> requests,
+            @Parameter(description = "저장 방식 (insert: 이미 있는 sourceUrl은 DUPLICATE / upsert: 내용이 바뀐 공고만 갱신)") @RequestParam(defaultValue = "insert") String mode,
+            @Parameter(description = "이 회사의 전체 수집 결과임을 표시 (upsert 전용, 요청에 없는 이 회사의 활성 공고는 비활성화)") @RequestParam(required = false) String fullCrawlCompany
     ) {
-        List<Long> savedJobIds = requests.stream()
-                .map(request -> {
-                    // Use experienceCategory if provided, otherwise fall back to experienceLevel for backward compatibility
-                    String expCategory = request.experienceCategory() != null ? 
-                            request.experienceCategory() : request.experienceLevel();
-                    
-                    SaveJobCommand command = new SaveJobCommand(
-                            request.title(),
-                            request.description(),
-                            request.requirements(),
-                            request.preferred(),
-                            request.location(),
-                            request.jobType(),
-                            expCategory,  // Pass experience category/level
-                            request.experienceRequirement(),  // New field
-                            request.sourceUrl(),
-                            request.companyName(),
-                            request.companyWebsite(),
-                            request.companyLocation(),
-                            request.techStackNames(),
-                            request.postedAt(),
-                            request.expiresAt(),
-                            request.rawHtml()
-                    );
-                    return saveJobUseCase.saveJob(command);
-                })
+        List<SaveJobCommand> commands = requests.stream()
+                .map(JobBatchRequest::toCommand)
                 .toList();
-        
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new JobBatchResponse(savedJobIds.size(), savedJobIds));
+        BatchSaveResult result = saveJobUseCase.saveJobs(commands, batchSaveOptions(mode, fullCrawlCompany));
+        return ResponseEntity.status(HttpStatus.CREATED).body(toBatchResponse(result));
+    }
+    
+    @PostMapping(value = "/batch/stream", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "채용공고 스트리밍 일괄 등록 (내부용)", description = "JSON 배열 또는 NDJSON(한 줄에 공고 하나) 본문을 항목 단위로 읽어 " +
+            "일정 개수씩 저장합니다. 요청 크기와 관계없이 메모리 사용량이 일정하므로 rawHtml을 포함한 대량 수집 결과에 사용합니다. " +
+            "본문 형식 오류로 중단되면 앞서 읽은 항목은 이미 저장되었을 수 있으므로 upsert 모드로 다시 보내면 됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "처리 완료 (항목별 상태는 items 참조)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+    })
+    public ResponseEntity<JobBatchResponse> saveJobBatchStream(
+            InputStream body,
+            @Parameter(description = "저장 방식 (insert: 이미 있는 sourceUrl은 DUPLICATE / upsert: 내용이 바뀐 공고만 갱신)") @RequestParam(defaultValue = "insert") String mode,
+            @Parameter(description = "이 회사의 전체 수집 결과임을 표시 (upsert 전용, 요청에 없는 이 회사의 활성 공고는 비활성화)") @RequestParam(required = false) String fullCrawlCompany
+    ) throws IOException {
+        BatchSaveOptions options = batchSaveOptions(mode, fullCrawlCompany);
+        try (JobBatchStreamReader reader = new JobBatchStreamReader(objectMapper, body)) {
+            BatchSaveResult result = saveJobUseCase.saveJobStream(reader, options);
+            return ResponseEntity.status(HttpStatus.CREATED).body(toBatchResponse(result));
+        }
+    }
+    
+    private static BatchSaveOptions batchSaveOptions(String mode, String fullCrawlCompany) {
+        if (!"insert".equals(mode) && !"upsert".equals(mode)) {
+            throw new IllegalArgumentException("저장 방식은 insert 또는 upsert여야 합니다.");
+        }
+        return new BatchSaveOptions("upsert".equals(mode), fullCrawlCompany);
+    }
+    
+    private static JobBatchResponse toBatchResponse(BatchSaveResult result) {
+        List<Long> savedJobIds = result.createdJobIds();
+        List<JobBatchItemResponse> items = result.items().stream()
+                .map(item -> new JobBatchItemResponse(
+                        item.index(), item.sourceUrl(), item.status().name(), item.jobId(), item.reason()))
+                .toList();
+        return new JobBatchResponse(
+                savedJobIds.size(),
+                savedJobIds,
+                (int) result.count(ItemStatus.UPDATED),
+                (int) result.count(ItemStatus.UNCHANGED),
+                (int) result.count(ItemStatus.DUPLICATE),
+                (int) result.count(ItemStatus.INVALID),
+                result.deactivatedJobIds().size(),
+                result.elapsedMillis(),
+                Math.round(result.itemsPerSecond() * 10) / 10.0,
+                items);
     }
     
     /**
@@ -144,23 +198,74 @@ public class JobController {
             java.time.LocalDateTime postedAt,
             java.time.LocalDateTime expiresAt,
             String rawHtml
-    ) {}
+    ) {
+        
+        /**
+         * 저장 커맨드로 변환 (수집 큐 메시지도 같은 형식을 사용)
+         */
+        public SaveJobCommand toCommand() {
+            // Use experienceCategory if provided, otherwise fall back to experienceLevel for backward compatibility
+            String expCategory = experienceCategory != null ? experienceCategory : experienceLevel;
+            
+            return new SaveJobCommand(
+                    title,
+                    description,
+                    requirements,
+                    preferred,
+                    location,
+                    jobType,
+                    expCategory,  // Pass experience category/level
+                    experienceRequirement,  // New field
+                    sourceUrl,
+                    companyName,
+                    companyWebsite,
+                    companyLocation,
+                    techStackNames,
+                    postedAt,
+                    expiresAt,
+                    rawHtml
+            );
+        }
+    }
     
     /**
      * 채용공고 일괄 등록 응답 DTO
      */
     public record JobBatchResponse(
             int savedCount,
-            List<Long> jobIds
+            List<Long> jobIds,
+            int updatedCount,
+            int unchangedCount,
+            int duplicateCount,
+            int invalidCount,
+            int deactivatedCount,
+            long elapsedMillis,
+            double itemsPerSecond,
+            List<JobBatchItemResponse> items
+    ) {}
+    
+    /**
+     * 채용공고 일괄 등록 항목별 결과 DTO
+     */
+    public record JobBatchItemResponse(
+            int index,
+            String sourceUrl,
+            String status,  // CREATED, UPDATED, UNCHANGED, DUPLICATE, INVALID
+            Long jobId,     // UPDATED/UNCHANGED/DUPLICATE면 기존 공고 ID (요청 내 중복이면 null)
+            String reason
     ) {}
 
     @DeleteMapping("/cache")
-    @Operation(summary = "채용공고 캐시 전체 삭제", description = "모든 채용공고 관련 캐시를 삭제합니다.")
+    @Operation(summary = "채용공고 캐시 전체 삭제", description = "모든 채용공고 관련 캐시를 삭제하고 삭제된 키 수와 소요 시간을 반환합니다.")
     @ApiResponses({
-        @ApiResponse(responseCode = "204", description = "캐시 삭제 성공")
+        @ApiResponse(responseCode = "200", description = "캐시 삭제 성공")
     })
-    public ResponseEntity<Void> clearCache() {
-        evictAllCachesUseCase.evictAllCaches();
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<CacheEvictionResponse> clearCache() {
+        EvictAllCachesResult result = evictAllCachesUseCase.evictAllCaches();
+        return ResponseEntity.ok(CacheEvictionResponse.builder()
+                .catalogVersion(result.catalogVersion())
+                .evictedKeys(result.evictedKeys())
+                .elapsedMillis(result.elapsedMillis())
+                .build());
     }
 }
\ No newline at end of file
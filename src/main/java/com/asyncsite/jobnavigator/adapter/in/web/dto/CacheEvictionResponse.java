@@ -0,0 +1,20 @@
+package com.asyncsite.jobnavigator.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+/**
+ * 캐시 전체 삭제 결과 응답 DTO
+ */
+@Builder
+@Schema(description = "캐시 전체 삭제 결과")
+public record CacheEvictionResponse(
+        @Schema(description = "삭제 후 카탈로그 버전", example = "42")
+        long catalogVersion,
+        
+        @Schema(description = "삭제된 Redis 키 수", example = "1280")
+        long evictedKeys,
+        
+        @Schema(description = "소요 시간 (ms)", example = "35")
+        long elapsedMillis
+) {}
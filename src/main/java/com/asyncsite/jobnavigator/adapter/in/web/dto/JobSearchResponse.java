@@ -31,5 +31,8 @@ public record JobSearchResponse(
         Boolean last,
         
         @Schema(description = "첫 페이지 여부", example = "true")
-        Boolean first
+        Boolean first,
+        
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wNy0wMVQwOTowMHwxNTI")
+        String nextCursor
 ) {}
\ No newline at end of file
@@ -26,6 +26,13 @@ public class JobWebMapper {
      * Job 도메인 모델을 JobItemResponse DTO로 변환
      */
     public JobItemResponse toJobItemResponse(Job job) {
+        return toJobItemResponse(job, null);
+    }
+    
+    /**
+     * @param matchScore 사용자 기술 스택 기준 매칭 점수 (0~1, 없으면 null)
+     */
+    private JobItemResponse toJobItemResponse(Job job, Double matchScore) {
         return JobItemResponse.builder()
                 .id(job.getId())
                 .company(job.getCompany().getName())
@@ -36,7 +43,7 @@ public class JobWebMapper {
                 .experience(job.getExperienceRequirement() != null ? job.getExperienceRequirement() : formatExperienceCategory(job.getExperienceCategory()))
                 .location(job.getLocation())
                 .deadline(formatDeadline(job.getExpiresAt()))
-                .matchScore(calculateMatchScore(job))
+                .matchScore(matchScore != null ? (int) Math.round(matchScore * 100) : null)
                 .hasWarRoom(false)  // TODO: 추후 War Room 기능 구현 시 수정
                 .warRoomCount(null) // TODO: 추후 War Room 기능 구현 시 수정
                 .sourceUrl(job.getSourceUrl())
@@ -50,7 +57,7 @@ public class JobWebMapper {
      */
     public JobSearchResponse toJobSearchResponse(SearchJobsResult result) {
         List<JobItemResponse> jobItems = result.jobs().stream()
-                .map(this::toJobItemResponse)
+                .map(job -> toJobItemResponse(job, result.matchScores().get(job.getId())))
                 .collect(Collectors.toList());
         
         return JobSearchResponse.builder()
@@ -59,8 +66,9 @@ public class JobWebMapper {
                 .size(result.pageSize())
                 .totalElements(result.totalElements())
                 .totalPages(result.totalPages())
-                .last(result.currentPage() >= result.totalPages() - 1)
+                .last(result.nextCursor() == null)
                 .first(result.currentPage() == 0)
+                .nextCursor(result.nextCursor())
                 .build();
     }
     
@@ -137,15 +145,6 @@ public class JobWebMapper {
         return expiresAt.format(DEADLINE_FORMATTER);
     }
     
-    /**
-     * 매칭 점수 계산 (임시 구현)
-     * TODO: 실제 사용자 프로필과 비교하여 계산하도록 개선
-     */
-    private Integer calculateMatchScore(Job job) {
-        // 임시로 70-95 사이의 랜덤 값 반환
-        return 70 + (int)(Math.random() * 26);
-    }
-    
     /**
      * 등록일 포맷팅
      */
@@ -0,0 +1,23 @@
+package com.asyncsite.jobnavigator.adapter.out.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 near cache 무효화 메시지 전달
+ * 메시지 형식: "version:{카탈로그 버전}", "job:{채용공고 ID},{채용공고 ID},...", "all"
+ * 검색 인덱스도 같은 버스로 "index-remove:{채용공고 ID},..."를 주고받는다.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 모든 인스턴스(자기 자신 포함)에 무효화 메시지 발행
+     * @param message 무효화 메시지
+     */
+    void publish(String message);
+
+    /**
+     * 무효화 메시지 구독
+     * @param listener 메시지 수신 리스너
+     */
+    void subscribe(Consumer<String> listener);
+}
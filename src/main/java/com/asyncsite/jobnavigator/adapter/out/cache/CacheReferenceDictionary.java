@@ -0,0 +1,73 @@
+package com.asyncsite.jobnavigator.adapter.out.cache;
+
+import com.asyncsite.jobnavigator.application.port.out.LoadCompanyPort;
+import com.asyncsite.jobnavigator.application.port.out.LoadTechStackPort;
+import com.asyncsite.jobnavigator.domain.Company;
+import com.asyncsite.jobnavigator.domain.Job;
+import com.asyncsite.jobnavigator.domain.TechStack;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 캐시 값에 ID로만 저장한 회사/기술 스택을 복원하기 위한 인스턴스 내 사전
+ * 직렬화할 때 최신 값으로 갱신하고, 다른 인스턴스가 저장한 항목은 처음 읽을 때 DB에서 가져온다.
+ */
+@Component
+public class CacheReferenceDictionary {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final LoadCompanyPort loadCompanyPort;
+    private final LoadTechStackPort loadTechStackPort;
+    private final Cache<Long, Company> companies = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(TTL)
+            .build();
+    private final Cache<Long, TechStack> techStacks = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(TTL)
+            .build();
+
+    public CacheReferenceDictionary(LoadCompanyPort loadCompanyPort, LoadTechStackPort loadTechStackPort) {
+        this.loadCompanyPort = loadCompanyPort;
+        this.loadTechStackPort = loadTechStackPort;
+    }
+
+    /**
+     * 채용공고가 참조하는 회사와 기술 스택 등록
+     */
+    void register(Job job) {
+        if (job.getCompany() != null && job.getCompany().getId() != null) {
+            companies.put(job.getCompany().getId(), job.getCompany());
+        }
+        for (TechStack techStack : job.getRequiredTechStacks()) {
+            register(techStack);
+        }
+        for (TechStack techStack : job.getPreferredTechStacks()) {
+            register(techStack);
+        }
+    }
+
+    /**
+     * @return 회사 (DB에도 없으면 null)
+     */
+    Company company(long companyId) {
+        return companies.get(companyId, id -> loadCompanyPort.loadCompany(id).orElse(null));
+    }
+
+    /**
+     * @return 기술 스택 (DB에도 없으면 null)
+     */
+    TechStack techStack(long techStackId) {
+        return techStacks.get(techStackId, id -> loadTechStackPort.loadTechStack(id).orElse(null));
+    }
+
+    private void register(TechStack techStack) {
+        if (techStack.getId() != null) {
+            techStacks.put(techStack.getId(), techStack);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.asyncsite.jobnavigator.adapter.out.cache;
+
+import com.asyncsite.jobnavigator.domain.Company;
+import com.asyncsite.jobnavigator.domain.ExperienceCategory;
+import com.asyncsite.jobnavigator.domain.Job;
+import com.asyncsite.jobnavigator.domain.TechStack;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 채용공고 캐시 값(Job, 검색 페이지 ID 목록)의 바이너리 직렬화
+ * 형식: [스키마 버전 1B][플래그 1B][본문] - 본문이 임계값보다 크면 Deflate로 압축한다.
+ * 회사와 기술 스택은 ID만 저장하고 읽을 때 {@link CacheReferenceDictionary}에서 복원한다.
+ * 스키마 버전이 다르거나 참조를 복원할 수 없는 값은 null(캐시 미스)로 취급한다.
+ */
+@Component
+@Slf4j
+public class CompactJobRedisSerializer implements RedisSerializer<Object> {
+
+    /** 2: 검색 결과를 공고 본문 대신 ID 목록으로 저장 */
+    private static final byte SCHEMA_VERSION = 2;
+    private static final byte FLAG_COMPRESSED = 1;
+    private static final byte TYPE_JOB = 1;
+    private static final byte TYPE_SEARCH_PAGE = 2;
+
+    private final CacheReferenceDictionary dictionary;
+    private final int compressionThreshold;
+
+    public CompactJobRedisSerializer(
+            CacheReferenceDictionary dictionary,
+            @Value("${job-navigator.cache.compression-threshold:1024}") int compressionThreshold) {
+        this.dictionary = dictionary;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(512);
+            DataOutputStream out = new DataOutputStream(body);
+            if (value instanceof Job job) {
+                out.writeByte(TYPE_JOB);
+                writeJob(out, job);
+            } else if (value instanceof SearchPageEntry entry) {
+                out.writeByte(TYPE_SEARCH_PAGE);
+                writeSearchPage(out, entry);
+            } else {
+                throw new SerializationException("Unsupported cache value type: " + value.getClass().getName());
+            }
+            out.flush();
+            return frame(body.toByteArray());
+        } catch (IOException e) {
+            throw new SerializationException("Failed to serialize cache value", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < 2) {
+            return null;
+        }
+        if (bytes[0] != SCHEMA_VERSION) {
+            log.debug("Ignoring cache value with schema version {}", bytes[0]);
+            return null;
+        }
+        InputStream body = new ByteArrayInputStream(bytes, 2, bytes.length - 2);
+        if ((bytes[1] & FLAG_COMPRESSED) != 0) {
+            body = new InflaterInputStream(body);
+        }
+        try (DataInputStream in = new DataInputStream(body)) {
+            return switch (in.readByte()) {
+                case TYPE_JOB -> readJob(in);
+                case TYPE_SEARCH_PAGE -> readSearchPage(in);
+                default -> null;
+            };
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SerializationException("Failed to deserialize cache value", e);
+        }
+    }
+
+    private byte[] frame(byte[] body) throws IOException {
+        ByteArrayOutputStream framed = new ByteArrayOutputStream(body.length + 2);
+        framed.write(SCHEMA_VERSION);
+        if (body.length < compressionThreshold) {
+            framed.write(0);
+            framed.write(body);
+            return framed.toByteArray();
+        }
+        framed.write(FLAG_COMPRESSED);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(framed, deflater)) {
+            out.write(body);
+        } finally {
+            deflater.end();
+        }
+        return framed.toByteArray();
+    }
+
+    private void writeSearchPage(DataOutputStream out, SearchPageEntry entry) throws IOException {
+        out.writeInt(entry.jobIds().size());
+        for (Long jobId : entry.jobIds()) {
+            out.writeLong(jobId);
+        }
+        out.writeLong(entry.totalElements());
+        out.writeInt(entry.totalPages());
+        out.writeInt(entry.currentPage());
+        out.writeInt(entry.pageSize());
+        writeString(out, entry.nextCursor());
+        out.writeLong(entry.cachedAtMillis());
+    }
+
+    private SearchPageEntry readSearchPage(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<Long> jobIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            jobIds.add(in.readLong());
+        }
+        return new SearchPageEntry(
+                jobIds, in.readLong(), in.readInt(), in.readInt(), in.readInt(), readString(in), in.readLong());
+    }
+
+    private void writeJob(DataOutputStream out, Job job) throws IOException {
+        dictionary.register(job);
+        out.writeLong(requireId(job.getId()));
+        Company company = job.getCompany();
+        out.writeLong(company != null ? requireId(company.getId()) : -1L);
+        writeString(out, job.getTitle());
+        writeString(out, job.getDescription());
+        writeString(out, job.getRequirements());
+        writeString(out, job.getPreferred());
+        writeString(out, job.getJobType() != null ? job.getJobType().name() : null);
+        writeString(out, job.getExperienceRequirement());
+        writeString(out, job.getExperienceCategory() != null ? job.getExperienceCategory().name() : null);
+        writeString(out, job.getLocation());
+        writeString(out, job.getSourceUrl());
+        writeDateTime(out, job.getPostedAt());
+        writeDateTime(out, job.getExpiresAt());
+        out.writeBoolean(job.isActive());
+        writeTechStackIds(out, job.getRequiredTechStacks());
+        writeTechStackIds(out, job.getPreferredTechStacks());
+        writeDateTime(out, job.getCrawledAt());
+        writeDateTime(out, job.getCreatedAt());
+        writeDateTime(out, job.getUpdatedAt());
+    }
+
+    private Job readJob(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        long companyId = in.readLong();
+        String title = readString(in);
+        String description = readString(in);
+        String requirements = readString(in);
+        String preferred = readString(in);
+        String jobType = readString(in);
+        String experienceRequirement = readString(in);
+        String experienceCategory = readString(in);
+        String location = readString(in);
+        String sourceUrl = readString(in);
+        LocalDateTime postedAt = readDateTime(in);
+        LocalDateTime expiresAt = readDateTime(in);
+        boolean active = in.readBoolean();
+        Set<TechStack> requiredTechStacks = readTechStacks(in);
+        Set<TechStack> preferredTechStacks = readTechStacks(in);
+        LocalDateTime crawledAt = readDateTime(in);
+        LocalDateTime createdAt = readDateTime(in);
+        LocalDateTime updatedAt = readDateTime(in);
+
+        Company company = companyId >= 0 ? dictionary.company(companyId) : null;
+        if ((companyId >= 0 && company == null) || requiredTechStacks == null || preferredTechStacks == null) {
+            return null;
+        }
+        return Job.fromEntity(
+                id,
+                company,
+                title,
+                description,
+                requirements,
+                preferred,
+                jobType != null ? Job.JobType.valueOf(jobType) : null,
+                experienceRequirement,
+                experienceCategory != null ? ExperienceCategory.valueOf(experienceCategory) : null,
+                location,
+                sourceUrl,
+                postedAt,
+                expiresAt,
+                active,
+                requiredTechStacks,
+                preferredTechStacks,
+                crawledAt,
+                createdAt,
+                updatedAt
+        );
+    }
+
+    private void writeTechStackIds(DataOutputStream out, Set<TechStack> techStacks) throws IOException {
+        out.writeShort(techStacks.size());
+        for (TechStack techStack : techStacks) {
+            out.writeLong(requireId(techStack.getId()));
+        }
+    }
+
+    /**
+     * @return 기술 스택 집합 (하나라도 복원할 수 없으면 null)
+     */
+    private Set<TechStack> readTechStacks(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        Set<TechStack> techStacks = new HashSet<>(count * 2);
+        boolean resolved = true;
+        for (int i = 0; i < count; i++) {
+            TechStack techStack = dictionary.techStack(in.readLong());
+            if (techStack == null) {
+                resolved = false;
+            } else {
+                techStacks.add(techStack);
+            }
+        }
+        return resolved ? techStacks : null;
+    }
+
+    private static long requireId(Long id) {
+        if (id == null) {
+            throw new SerializationException("Cannot reference an unsaved entity in a cache value");
+        }
+        return id;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.writeBoolean(false);
+            return;
+        }
+        out.writeBoolean(true);
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -1,41 +1,101 @@
 package com.asyncsite.jobnavigator.adapter.out.cache;
 
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsResult;
 import com.asyncsite.jobnavigator.application.port.out.JobCachePort;
 import com.asyncsite.jobnavigator.domain.Job;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Redis 기반 채용공고 캐시 어댑터
+ * 2단계 채용공고 캐시 어댑터 (L1: 인스턴스 내 near cache, L2: Redis)
+ * 카탈로그 버전은 Redis INCR로 모든 인스턴스가 공유하고, Redis를 쓸 수 없으면 인스턴스 내 카운터로 대신한다.
+ * 검색 결과는 페이지의 ID 목록만 hard TTL 동안 보관하고(본문은 상세 캐시와 공유), soft TTL이 지난 항목은 stale로 표시해 돌려준다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JobCacheAdapter implements JobCachePort {
     
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper redisObjectMapper;
+    private final RedisTemplate<String, Object> jobCacheRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JobNearCache nearCache;
+    private final AtomicLong localCatalogVersion = new AtomicLong();
     
     private static final String JOB_CACHE_PREFIX = "job:";
     private static final String SEARCH_CACHE_PREFIX = "search:";
+    private static final String CATALOG_VERSION_KEY = "catalog:version";
     private static final Duration JOB_CACHE_TTL = Duration.ofHours(1);
-    private static final Duration SEARCH_CACHE_TTL = Duration.ofMinutes(10);
+    private static final int EVICT_BATCH_SIZE = 500;
+    
+    /** 이 시간이 지난 검색 결과는 그대로 제공하되 백그라운드에서 갱신 */
+    @Value("${job-navigator.cache.search.soft-ttl:PT2M}")
+    private Duration searchSoftTtl;
+    
+    /** 검색 결과 보관 시간 (Redis 만료) */
+    @Value("${job-navigator.cache.search.hard-ttl:PT10M}")
+    private Duration searchHardTtl;
+    
+    @Override
+    public long getCatalogVersion() {
+        OptionalLong known = nearCache.knownCatalogVersion();
+        if (known.isPresent()) {
+            return known.getAsLong();
+        }
+        try {
+            String value = stringRedisTemplate.opsForValue().get(CATALOG_VERSION_KEY);
+            long version = value != null ? Long.parseLong(value) : 0L;
+            nearCache.updateCatalogVersion(version);
+            return version;
+        } catch (Exception e) {
+            log.error("Error getting catalog version, using local version", e);
+            return localCatalogVersion.get();
+        }
+    }
+    
+    @Override
+    public long bumpCatalogVersion() {
+        long local = localCatalogVersion.incrementAndGet();
+        try {
+            Long version = stringRedisTemplate.opsForValue().increment(CATALOG_VERSION_KEY);
+            log.debug("Bumped catalog version to {}", version);
+            long bumped = version != null ? version : local;
+            nearCache.publishCatalogVersion(bumped);
+            return bumped;
+        } catch (Exception e) {
+            log.error("Error bumping catalog version, using local version {}", local, e);
+            nearCache.publishCatalogVersion(local);
+            return local;
+        }
+    }
     
     @Override
-    public Optional<Job> getCachedJob(Long jobId) {
-        String key = JOB_CACHE_PREFIX + jobId;
+    public Optional<Job> getCachedJob(long catalogVersion, Long jobId) {
+        String key = jobKey(catalogVersion, jobId);
+        Optional<Job> local = nearCache.getJob(catalogVersion, jobId);
+        if (local.isPresent()) {
+            return local;
+        }
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
-            if (cached != null) {
-                Job job = redisObjectMapper.convertValue(cached, Job.class);
+            if (jobCacheRedisTemplate.opsForValue().get(key) instanceof Job job) {
+                nearCache.putJob(catalogVersion, job);
                 log.debug("Cache hit for job: {}", jobId);
                 return Optional.of(job);
             }
@@ -46,10 +106,11 @@ public class JobCacheAdapter implements JobCachePort {
     }
     
     @Override
-    public void cacheJob(Job job) {
-        String key = JOB_CACHE_PREFIX + job.getId();
+    public void cacheJob(long catalogVersion, Job job) {
+        String key = jobKey(catalogVersion, job.getId());
+        nearCache.putJob(catalogVersion, job);
         try {
-            redisTemplate.opsForValue().set(key, job, JOB_CACHE_TTL);
+            jobCacheRedisTemplate.opsForValue().set(key, job, JOB_CACHE_TTL);
             log.debug("Cached job: {}", job.getId());
         } catch (Exception e) {
             log.error("Error caching job: {}", job.getId(), e);
@@ -57,10 +118,73 @@ public class JobCacheAdapter implements JobCachePort {
     }
     
     @Override
-    public void cacheSearchResult(String cacheKey, List<Job> jobs) {
+    public Map<Long, Job> getCachedJobs(long catalogVersion, List<Long> jobIds) {
+        Map<Long, Job> jobs = new HashMap<>(jobIds.size() * 2);
+        List<Long> remoteIds = new ArrayList<>();
+        for (Long jobId : jobIds) {
+            nearCache.getJob(catalogVersion, jobId)
+                    .ifPresentOrElse(job -> jobs.put(jobId, job), () -> remoteIds.add(jobId));
+        }
+        if (remoteIds.isEmpty()) {
+            return jobs;
+        }
+        try {
+            List<String> keys = remoteIds.stream().map(jobId -> jobKey(catalogVersion, jobId)).toList();
+            List<Object> values = jobCacheRedisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; values != null && i < values.size(); i++) {
+                if (values.get(i) instanceof Job job) {
+                    nearCache.putJob(catalogVersion, job);
+                    jobs.put(remoteIds.get(i), job);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error getting cached jobs: {}", remoteIds, e);
+        }
+        return jobs;
+    }
+    
+    @Override
+    public void cacheJobs(long catalogVersion, List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        jobs.forEach(job -> nearCache.putJob(catalogVersion, job));
+        try {
+            jobCacheRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    ValueOperations<String, Object> values = ((RedisOperations<String, Object>) operations).opsForValue();
+                    for (Job job : jobs) {
+                        values.set(jobKey(catalogVersion, job.getId()), job, JOB_CACHE_TTL);
+                    }
+                    return null;
+                }
+            });
+            log.debug("Cached {} jobs", jobs.size());
+        } catch (Exception e) {
+            log.error("Error caching {} jobs", jobs.size(), e);
+        }
+    }
+    
+    @Override
+    public void cacheSearchResult(long catalogVersion, String cacheKey, SearchJobsResult result) {
+        // 검색 캐시에는 ID 순서만 저장
+        // 본문은 인스턴스별 인메모리 인덱스에서 왔을 수 있어(다른 인스턴스의 변경이 아직 반영되지 않았을 수 있음)
+        // 공유 상세 캐시에 쓰지 않고, 페이지 조립 시 DB에서 읽은 본문만 상세 캐시에 채운다.
         String key = SEARCH_CACHE_PREFIX + cacheKey;
+        SearchPageEntry entry = new SearchPageEntry(
+                result.jobs().stream().map(Job::getId).toList(),
+                result.totalElements(),
+                result.totalPages(),
+                result.currentPage(),
+                result.pageSize(),
+                result.nextCursor(),
+                System.currentTimeMillis()
+        );
+        nearCache.putSearchPage(key, entry);
         try {
-            redisTemplate.opsForValue().set(key, jobs, SEARCH_CACHE_TTL);
+            jobCacheRedisTemplate.opsForValue().set(key, entry, searchHardTtl);
             log.debug("Cached search result with key: {}", cacheKey);
         } catch (Exception e) {
             log.error("Error caching search result: {}", cacheKey, e);
@@ -68,14 +192,17 @@ public class JobCacheAdapter implements JobCachePort {
     }
     
     @Override
-    public Optional<List<Job>> getCachedSearchResult(String cacheKey) {
+    public Optional<CachedSearchPage> getCachedSearchPage(String cacheKey) {
         String key = SEARCH_CACHE_PREFIX + cacheKey;
+        Optional<SearchPageEntry> local = nearCache.getSearchPage(key);
+        if (local.isPresent()) {
+            return local.map(this::toCachedSearchPage);
+        }
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
-            if (cached != null) {
-                List<Job> jobs = redisObjectMapper.convertValue(cached, new TypeReference<List<Job>>() {});
+            if (jobCacheRedisTemplate.opsForValue().get(key) instanceof SearchPageEntry entry) {
+                nearCache.putSearchPage(key, entry);
                 log.debug("Cache hit for search: {}", cacheKey);
-                return Optional.of(jobs);
+                return Optional.of(toCachedSearchPage(entry));
             }
         } catch (Exception e) {
             log.error("Error getting cached search result: {}", cacheKey, e);
@@ -85,9 +212,11 @@ public class JobCacheAdapter implements JobCachePort {
     
     @Override
     public void evictJob(Long jobId) {
-        String key = JOB_CACHE_PREFIX + jobId;
+        // 상세 캐시는 버전별 키이므로 현재 버전 항목만 삭제
+        String key = jobKey(getCatalogVersion(), jobId);
+        nearCache.publishJobEvictions(List.of(jobId));
         try {
-            redisTemplate.delete(key);
+            jobCacheRedisTemplate.delete(key);
             log.debug("Evicted job from cache: {}", jobId);
         } catch (Exception e) {
             log.error("Error evicting job from cache: {}", jobId, e);
@@ -95,15 +224,76 @@ public class JobCacheAdapter implements JobCachePort {
     }
     
     @Override
-    public void evictAll() {
+    public void evictJobs(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        long catalogVersion = getCatalogVersion();
+        nearCache.publishJobEvictions(jobIds);
+        List<String> keys = jobIds.stream().map(jobId -> jobKey(catalogVersion, jobId)).toList();
         try {
-            // Job 캐시 삭제
-            redisTemplate.delete(redisTemplate.keys(JOB_CACHE_PREFIX + "*"));
-            // Search 캐시 삭제
-            redisTemplate.delete(redisTemplate.keys(SEARCH_CACHE_PREFIX + "*"));
-            log.info("Evicted all caches");
+            jobCacheRedisTemplate.delete(keys);
+            log.debug("Evicted {} jobs from cache", jobIds.size());
+        } catch (Exception e) {
+            log.error("Error evicting {} jobs from cache", jobIds.size(), e);
+        }
+    }
+    
+    @Override
+    public long evictAll() {
+        nearCache.publishEvictAll();
+        try {
+            long removed = unlinkMatching(JOB_CACHE_PREFIX + "*") + unlinkMatching(SEARCH_CACHE_PREFIX + "*");
+            log.info("Evicted all caches, {} keys removed", removed);
+            return removed;
         } catch (Exception e) {
             log.error("Error evicting all caches", e);
+            return 0L;
+        }
+    }
+    
+    /**
+     * SCAN 커서로 키를 나눠 읽으며 배치 단위로 UNLINK
+     * KEYS와 달리 Redis를 오래 점유하지 않고, 메모리 해제는 UNLINK가 백그라운드에서 처리한다.
+     */
+    private long unlinkMatching(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(EVICT_BATCH_SIZE).build();
+        List<String> batch = new ArrayList<>(EVICT_BATCH_SIZE);
+        long removed = 0;
+        try (Cursor<String> cursor = jobCacheRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= EVICT_BATCH_SIZE) {
+                    removed += unlink(batch);
+                }
+            }
+        }
+        return removed + unlink(batch);
+    }
+    
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0L;
         }
+        Long unlinked = jobCacheRedisTemplate.unlink(keys);
+        keys.clear();
+        return unlinked != null ? unlinked : 0L;
+    }
+    
+    private CachedSearchPage toCachedSearchPage(SearchPageEntry entry) {
+        boolean stale = System.currentTimeMillis() - entry.cachedAtMillis() > searchSoftTtl.toMillis();
+        return new CachedSearchPage(
+                entry.jobIds(),
+                entry.totalElements(),
+                entry.totalPages(),
+                entry.currentPage(),
+                entry.pageSize(),
+                entry.nextCursor(),
+                stale
+        );
+    }
+    
+    private String jobKey(long catalogVersion, Long jobId) {
+        return JOB_CACHE_PREFIX + "v" + catalogVersion + ":" + jobId;
     }
-}
\ No newline at end of file
+}
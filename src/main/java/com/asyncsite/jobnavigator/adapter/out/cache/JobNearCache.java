@@ -0,0 +1,163 @@
+package com.asyncsite.jobnavigator.adapter.out.cache;
+
+import com.asyncsite.jobnavigator.domain.Job;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 앞단의 인스턴스 내 L1 캐시 (Caffeine, W-TinyLFU admission)
+ * 상세는 항목 수, 검색 페이지는 포함된 공고 ID 수를 가중치로 제한한다.
+ * 카탈로그 버전도 로컬에 두어 매 요청마다 Redis에 묻지 않고,
+ * 버전 변경은 무효화 버스로 즉시 전파하되 메시지 유실에 대비해 version-ttl마다 Redis에서 다시 확인한다.
+ * 상세는 공고 ID를 키로 저장하고 카탈로그 버전을 함께 두어, ID별 무효화가 전체를 훑지 않는다.
+ */
+@Component
+@Slf4j
+public class JobNearCache {
+
+    private static final String VERSION_MESSAGE = "version:";
+    private static final String JOB_MESSAGE = "job:";
+    private static final String ALL_MESSAGE = "all";
+    private static final Pattern ID_SEPARATOR = Pattern.compile(",");
+
+    private final Cache<Long, VersionedJob> jobs;
+    private final Cache<String, SearchPageEntry> searchPages;
+    private final CacheInvalidationBus invalidationBus;
+    private final long versionTtlNanos;
+    private volatile long catalogVersion = -1;
+    private volatile long catalogVersionCheckedAt;
+
+    public JobNearCache(
+            CacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${job-navigator.cache.near.job-max-size:10000}") long jobMaxSize,
+            @Value("${job-navigator.cache.near.search-max-weight:50000}") long searchMaxWeight,
+            @Value("${job-navigator.cache.near.ttl:PT1M}") Duration ttl,
+            @Value("${job-navigator.cache.near.version-ttl:PT5S}") Duration versionTtl) {
+        this.invalidationBus = invalidationBus;
+        this.versionTtlNanos = versionTtl.toNanos();
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(jobMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.searchPages = Caffeine.newBuilder()
+                .maximumWeight(searchMaxWeight)
+                .weigher((String key, SearchPageEntry entry) -> entry.jobIds().size() + 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, jobs, "job.near.detail");
+        CaffeineCacheMetrics.monitor(meterRegistry, searchPages, "job.near.search");
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * 최근에 확인한 카탈로그 버전 (version-ttl이 지났으면 empty)
+     */
+    OptionalLong knownCatalogVersion() {
+        if (catalogVersion < 0 || System.nanoTime() - catalogVersionCheckedAt > versionTtlNanos) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(catalogVersion);
+    }
+
+    /**
+     * Redis에서 읽은 카탈로그 버전 반영
+     */
+    void updateCatalogVersion(long version) {
+        applyCatalogVersion(version);
+    }
+
+    /**
+     * 이 인스턴스에서 올린 카탈로그 버전을 반영하고 다른 인스턴스에 전파
+     */
+    void publishCatalogVersion(long version) {
+        applyCatalogVersion(version);
+        invalidationBus.publish(VERSION_MESSAGE + version);
+    }
+
+    Optional<Job> getJob(long catalogVersion, Long jobId) {
+        VersionedJob entry = jobs.getIfPresent(jobId);
+        return entry != null && entry.catalogVersion() == catalogVersion ? Optional.of(entry.job()) : Optional.empty();
+    }
+
+    void putJob(long catalogVersion, Job job) {
+        jobs.put(job.getId(), new VersionedJob(catalogVersion, job));
+    }
+
+    Optional<SearchPageEntry> getSearchPage(String key) {
+        return Optional.ofNullable(searchPages.getIfPresent(key));
+    }
+
+    void putSearchPage(String key, SearchPageEntry entry) {
+        searchPages.put(key, entry);
+    }
+
+    /**
+     * 여러 공고를 한 메시지("job:{ID},{ID},...")로 무효화
+     */
+    void publishJobEvictions(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        jobs.invalidateAll(jobIds);
+        invalidationBus.publish(JOB_MESSAGE + jobIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    void publishEvictAll() {
+        evictAll();
+        invalidationBus.publish(ALL_MESSAGE);
+    }
+
+    private synchronized void applyCatalogVersion(long version) {
+        catalogVersionCheckedAt = System.nanoTime();
+        if (version == catalogVersion) {
+            return;
+        }
+        // 이전 버전 키는 더 이상 조회되지 않으므로 메모리만 비운다
+        catalogVersion = version;
+        jobs.invalidateAll();
+        searchPages.invalidateAll();
+        log.debug("Near cache moved to catalog version {}", version);
+    }
+
+    private void onInvalidation(String message) {
+        try {
+            if (message.startsWith(VERSION_MESSAGE)) {
+                long version = Long.parseLong(message.substring(VERSION_MESSAGE.length()));
+                if (version > catalogVersion) {
+                    applyCatalogVersion(version);
+                }
+            } else if (message.startsWith(JOB_MESSAGE)) {
+                jobs.invalidateAll(ID_SEPARATOR.splitAsStream(message.substring(JOB_MESSAGE.length()))
+                        .map(Long::valueOf)
+                        .toList());
+            } else if (ALL_MESSAGE.equals(message)) {
+                evictAll();
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", message);
+        }
+    }
+
+    private void evictAll() {
+        jobs.invalidateAll();
+        searchPages.invalidateAll();
+    }
+
+    private record VersionedJob(long catalogVersion, Job job) {
+    }
+}
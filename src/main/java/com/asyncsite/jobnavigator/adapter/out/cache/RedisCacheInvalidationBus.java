@@ -0,0 +1,44 @@
+package com.asyncsite.jobnavigator.adapter.out.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 캐시 무효화 버스
+ * pub/sub은 전달을 보장하지 않으므로 near cache는 카탈로그 버전을 주기적으로 다시 확인한다.
+ */
+@Component
+@ConditionalOnProperty(name = "job-navigator.cache.invalidation-bus", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final ChannelTopic CHANNEL = new ChannelTopic("job-navigator:cache-invalidation");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Override
+    public void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL.getTopic(), message);
+        } catch (Exception e) {
+            log.error("Error publishing cache invalidation: {}", message, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                CHANNEL);
+    }
+}
@@ -0,0 +1,56 @@
+package com.asyncsite.jobnavigator.adapter.out.cache;
+
+import com.asyncsite.jobnavigator.application.port.out.CacheLockPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis SET NX PX 기반 캐시 적재 잠금
+ * Redis를 쓸 수 없으면 잠금을 획득한 것으로 보고 각자 적재한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCacheLockAdapter implements CacheLockPort {
+    
+    private static final String LOCK_PREFIX = "lock:";
+    private static final String UNAVAILABLE_TOKEN = "";
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    
+    @Override
+    public Optional<String> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + key, token, ttl);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+        } catch (Exception e) {
+            log.error("Error acquiring cache lock: {}", key, e);
+            return Optional.of(UNAVAILABLE_TOKEN);
+        }
+    }
+    
+    @Override
+    public void unlock(String key, String token) {
+        if (UNAVAILABLE_TOKEN.equals(token)) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_PREFIX + key), token);
+        } catch (Exception e) {
+            log.error("Error releasing cache lock: {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.asyncsite.jobnavigator.adapter.out.cache;
+
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsCommand;
+import com.asyncsite.jobnavigator.application.port.out.SearchQueryLogPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis sorted set 기반 검색 조건 빈도 기록
+ * 요청마다 Redis에 쓰지 않고 인스턴스 내에서 모아 두었다가 주기적으로 ZINCRBY로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisSearchQueryLogAdapter implements SearchQueryLogPort {
+    
+    private static final String QUERY_LOG_KEY = "stats:search-queries";
+    private static final int MAX_PENDING_SHAPES = 10_000;
+    private static final int MAX_STORED_SHAPES = 1_000;
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+    
+    @Override
+    public void record(SearchJobsCommand command) {
+        try {
+            String shape = objectMapper.writeValueAsString(command);
+            LongAdder count = pending.get(shape);
+            if (count == null) {
+                if (pending.size() >= MAX_PENDING_SHAPES) {
+                    return;
+                }
+                count = pending.computeIfAbsent(shape, k -> new LongAdder());
+            }
+            count.increment();
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to record search query shape", e);
+        }
+    }
+    
+    @Override
+    public List<SearchJobsCommand> loadTopQueries(int limit) {
+        List<SearchJobsCommand> commands = new ArrayList<>();
+        try {
+            Set<String> shapes = stringRedisTemplate.opsForZSet().reverseRange(QUERY_LOG_KEY, 0, limit - 1);
+            if (shapes == null) {
+                return commands;
+            }
+            for (String shape : shapes) {
+                try {
+                    commands.add(objectMapper.readValue(shape, SearchJobsCommand.class));
+                } catch (JsonProcessingException e) {
+                    log.debug("Skipping unreadable search query shape: {}", shape);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error loading top search queries", e);
+        }
+        return commands;
+    }
+    
+    /**
+     * 모아 둔 빈도를 Redis에 반영하고 상위 항목만 남김
+     */
+    @Scheduled(fixedDelayString = "${job-navigator.warmup.query-log.flush-interval:PT1M}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, Long> counts = new HashMap<>();
+        for (String shape : pending.keySet()) {
+            LongAdder count = pending.remove(shape);
+            if (count != null && count.sum() > 0) {
+                counts.put(shape, count.sum());
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                    counts.forEach((shape, count) -> redis.opsForZSet().incrementScore(QUERY_LOG_KEY, shape, count));
+                    redis.opsForZSet().removeRange(QUERY_LOG_KEY, 0, -(MAX_STORED_SHAPES + 1));
+                    return null;
+                }
+            });
+            log.debug("Flushed {} search query shapes", counts.size());
+        } catch (Exception e) {
+            log.error("Error flushing search query log", e);
+        }
+    }
+}
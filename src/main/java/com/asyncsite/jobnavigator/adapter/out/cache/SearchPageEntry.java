@@ -0,0 +1,18 @@
+package com.asyncsite.jobnavigator.adapter.out.cache;
+
+import java.util.List;
+
+/**
+ * 검색 결과 페이지 캐시 값
+ * 공고 본문은 상세 캐시(job:v{버전}:{ID})와 공유하고, 여기에는 순서가 있는 ID 목록과 페이지 정보만 둔다.
+ * 저장 시각은 soft TTL 판단용이다.
+ */
+record SearchPageEntry(
+        List<Long> jobIds,
+        long totalElements,
+        int totalPages,
+        int currentPage,
+        int pageSize,
+        String nextCursor,
+        long cachedAtMillis
+) {}
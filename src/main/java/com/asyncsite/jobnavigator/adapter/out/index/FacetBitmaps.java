@@ -0,0 +1,78 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * facet 값별 문서 ordinal 비트맵
+ * 저장된 비트맵은 조회 결과로 그대로 노출하지 않고 항상 새 비트맵을 만들어 반환한다.
+ */
+final class FacetBitmaps<K> {
+
+    private final Map<K, RoaringBitmap> bitmaps = new HashMap<>();
+
+    void add(K key, int ordinal) {
+        bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+    }
+
+    /**
+     * 같은 facet 내 여러 값의 합집합 (OR)
+     */
+    RoaringBitmap union(Collection<K> keys) {
+        List<RoaringBitmap> matched = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                matched.add(bitmap);
+            }
+        }
+        return FastAggregation.or(matched.iterator());
+    }
+
+    /**
+     * 한 값의 문서 중 other에도 있는 문서
+     */
+    RoaringBitmap and(K key, RoaringBitmap other) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        return bitmap != null ? RoaringBitmap.and(bitmap, other) : new RoaringBitmap();
+    }
+    
+    /**
+     * 여러 값을 모두 포함하는 문서 (AND)
+     */
+    RoaringBitmap intersection(Collection<K> keys) {
+        List<RoaringBitmap> matched = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap == null) {
+                return new RoaringBitmap();
+            }
+            matched.add(bitmap);
+        }
+        return matched.isEmpty() ? new RoaringBitmap() : FastAggregation.and(matched.iterator());
+    }
+
+    /**
+     * 값별 문서 수 (삭제된 문서 제외)
+     */
+    Map<K, Integer> counts(RoaringBitmap live) {
+        Map<K, Integer> counts = new HashMap<>(bitmaps.size() * 2);
+        bitmaps.forEach((key, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(bitmap, live);
+            if (count > 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    void optimize() {
+        bitmaps.values().forEach(RoaringBitmap::runOptimize);
+    }
+}
@@ -0,0 +1,177 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+import com.asyncsite.jobnavigator.adapter.out.cache.CacheInvalidationBus;
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsCommand;
+import com.asyncsite.jobnavigator.application.port.out.JobIndexPort;
+import com.asyncsite.jobnavigator.domain.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 상주 채용공고 검색 인덱스 어댑터
+ * 검색은 read lock, 색인/재구성은 write lock으로 보호한다.
+ * 전체 재구성은 lock 밖에서 새 인덱스를 만든 뒤 교체만 lock 안에서 수행한다.
+ * 재구성 중 들어온 색인 변경은 기록해 두었다가 교체 직전에 새 인덱스에 다시 적용한다.
+ * 비활성화된 공고는 캐시 무효화 버스("index-remove:{ID},...")로 모든 인스턴스의 인덱스에서 제거한다.
+ */
+@Component
+@Slf4j
+public class InMemoryJobIndexAdapter implements JobIndexPort {
+
+    private static final String REMOVE_MESSAGE = "index-remove:";
+    private static final Pattern ID_SEPARATOR = Pattern.compile(",");
+
+    private final CacheInvalidationBus invalidationBus;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private JobIndex index = new JobIndex();
+    private List<Consumer<JobIndex>> pendingChanges;
+    private volatile boolean ready;
+
+    public InMemoryJobIndexAdapter(CacheInvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(this::onMessage);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public synchronized void rebuild(Supplier<List<Job>> jobsLoader) {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        JobIndex rebuilt;
+        try {
+            rebuilt = JobIndex.of(jobsLoader.get());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 목록을 읽는 동안 들어온 변경을 새 인덱스에 반영
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            index = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt job index with {} jobs in {}ms", rebuilt.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @Override
+    public void index(Job job) {
+        if (!job.isActive()) {
+            remove(job.getId());
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.add(job);
+            if (pendingChanges != null) {
+                pendingChanges.add(pending -> pending.add(job));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Indexed job: {}", job.getId());
+    }
+
+    @Override
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            index.remove(jobId);
+            if (pendingChanges != null) {
+                pendingChanges.add(pending -> pending.remove(jobId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Removed job from index: {}", jobId);
+    }
+
+    @Override
+    public void removeEverywhere(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        jobIds.forEach(this::remove);
+        invalidationBus.publish(REMOVE_MESSAGE + jobIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    /**
+     * 다른 인스턴스에서 비활성화한 공고 제거 (자기 자신이 보낸 메시지는 이미 반영되어 다시 제거해도 무해)
+     */
+    private void onMessage(String message) {
+        if (!message.startsWith(REMOVE_MESSAGE)) {
+            return;
+        }
+        try {
+            ID_SEPARATOR.splitAsStream(message.substring(REMOVE_MESSAGE.length()))
+                    .map(Long::valueOf)
+                    .forEach(this::remove);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed index message: {}", message);
+        }
+    }
+
+    @Override
+    public IndexSearchResult search(SearchJobsCommand command) {
+        lock.readLock().lock();
+        try {
+            return index.search(command);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Job> loadJobs(List<Long> jobIds) {
+        List<Job> jobs = new ArrayList<>(jobIds.size());
+        lock.readLock().lock();
+        try {
+            for (Long jobId : jobIds) {
+                Job job = index.get(jobId);
+                if (job != null) {
+                    jobs.add(job);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return jobs;
+    }
+
+    @Override
+    public FacetCounts facetCounts() {
+        lock.readLock().lock();
+        try {
+            return index.facetCounts();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchCursor;
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsCommand;
+import com.asyncsite.jobnavigator.application.port.out.JobIndexPort.FacetCounts;
+import com.asyncsite.jobnavigator.application.port.out.JobIndexPort.IndexSearchResult;
+import com.asyncsite.jobnavigator.domain.ExperienceCategory;
+import com.asyncsite.jobnavigator.domain.Job;
+import com.asyncsite.jobnavigator.domain.TechStack;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 채용공고 inverted index
+ * 문서마다 dense ordinal을 부여하고 facet 값별 compressed bitmap을 유지한다.
+ * 같은 facet 내 조건은 OR, facet 간 조건은 AND로 비트맵 연산만으로 결합한다.
+ * 키워드도 n-gram 토큰별 비트맵으로 색인되어 검색 시 문서 본문을 다시 읽지 않는다.
+ * 교체/삭제된 문서는 live 비트맵에서만 빠지고 전체 재구성 시 정리된다.
+ * 정렬은 요청마다 비교 정렬하지 않고, 관련도와 매칭 점수는 상위 K개 힙으로, 날짜는 미리 정렬된 ordinal 배열로 처리한다.
+ * 동기화는 호출하는 어댑터가 담당한다.
+ */
+final class JobIndex {
+
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("\\s*,\\s*");
+    private static final Pattern LOCATION_SEPARATOR = Pattern.compile("[\\s/()\\[\\]·|,]+");
+
+    private final List<Job> documents = new ArrayList<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final FacetBitmaps<Long> byCompany = new FacetBitmaps<>();
+    private final FacetBitmaps<Long> byTechStack = new FacetBitmaps<>();
+    private final FacetBitmaps<Long> byRequiredTechStack = new FacetBitmaps<>();
+    private final FacetBitmaps<Long> byPreferredTechStack = new FacetBitmaps<>();
+    private int[] requiredCounts = new int[16];
+    private int[] preferredCounts = new int[16];
+    private final FacetBitmaps<ExperienceCategory> byExperienceCategory = new FacetBitmaps<>();
+    private final FacetBitmaps<Job.JobType> byJobType = new FacetBitmaps<>();
+    private final FacetBitmaps<String> byLocationTerm = new FacetBitmaps<>();
+    private final KeywordIndex keywords = new KeywordIndex();
+    private final Map<SortField, SortOrder> sortOrders = new EnumMap<>(SortField.class);
+    private FacetCounts facetCounts;
+
+    static JobIndex of(List<Job> jobs) {
+        JobIndex index = new JobIndex();
+        jobs.forEach(index::add);
+        index.optimize();
+        return index;
+    }
+
+    void add(Job job) {
+        if (job.getId() == null) {
+            throw new IllegalArgumentException("Cannot index a job without id");
+        }
+        remove(job.getId());
+
+        int ordinal = documents.size();
+        documents.add(job);
+        ordinalById.put(job.getId(), ordinal);
+        live.add(ordinal);
+
+        if (job.getCompany() != null && job.getCompany().getId() != null) {
+            byCompany.add(job.getCompany().getId(), ordinal);
+        }
+        for (Long techStackId : techStackIds(job)) {
+            byTechStack.add(techStackId, ordinal);
+        }
+        if (ordinal >= requiredCounts.length) {
+            requiredCounts = Arrays.copyOf(requiredCounts, Math.max(ordinal + 1, requiredCounts.length * 2));
+            preferredCounts = Arrays.copyOf(preferredCounts, requiredCounts.length);
+        }
+        requiredCounts[ordinal] = addTechStacks(byRequiredTechStack, job.getRequiredTechStacks(), ordinal);
+        preferredCounts[ordinal] = addTechStacks(byPreferredTechStack, job.getPreferredTechStacks(), ordinal);
+        if (job.getExperienceCategory() != null) {
+            byExperienceCategory.add(job.getExperienceCategory(), ordinal);
+        }
+        if (job.getJobType() != null) {
+            byJobType.add(job.getJobType(), ordinal);
+        }
+        for (String term : locationTerms(job.getLocation())) {
+            byLocationTerm.add(term, ordinal);
+        }
+        keywords.add(ordinal, job.getTitle(), job.getDescription(), job.getRequirements(), job.getPreferred());
+        invalidateSortOrders();
+        invalidateFacetCounts();
+    }
+
+    void remove(Long jobId) {
+        Integer ordinal = ordinalById.remove(jobId);
+        if (ordinal != null) {
+            Job job = documents.set(ordinal, null);
+            keywords.remove(ordinal, job.getTitle(), job.getDescription(), job.getRequirements(), job.getPreferred());
+            live.remove(ordinal);
+            invalidateFacetCounts();
+        }
+    }
+
+    /**
+     * facet 값별 활성 공고 수 (변경 전까지 한 번 계산한 값을 재사용)
+     */
+    synchronized FacetCounts facetCounts() {
+        if (facetCounts == null) {
+            facetCounts = new FacetCounts(
+                    Map.copyOf(byCompany.counts(live)),
+                    Map.copyOf(byTechStack.counts(live)),
+                    Map.copyOf(byExperienceCategory.counts(live))
+            );
+        }
+        return facetCounts;
+    }
+
+    private synchronized void invalidateFacetCounts() {
+        facetCounts = null;
+    }
+
+    int size() {
+        return live.getCardinality();
+    }
+
+    Job get(Long jobId) {
+        Integer ordinal = ordinalById.get(jobId);
+        return ordinal != null ? documents.get(ordinal) : null;
+    }
+
+    void optimize() {
+        live.runOptimize();
+        byCompany.optimize();
+        byTechStack.optimize();
+        byRequiredTechStack.optimize();
+        byPreferredTechStack.optimize();
+        byExperienceCategory.optimize();
+        byJobType.optimize();
+        byLocationTerm.optimize();
+        keywords.optimize();
+    }
+
+    /**
+     * facet/키워드 조건을 비트맵 연산으로 좁힌 뒤 요청 페이지의 ID만 정렬 순서대로 수집
+     * 커서가 있으면 앞 페이지를 건너뛰지 않고 커서 다음 위치에서 바로 시작한다.
+     */
+    IndexSearchResult search(SearchJobsCommand command) {
+        if (Boolean.FALSE.equals(command.isActive())) {
+            // 인덱스에는 활성 공고만 존재
+            return new IndexSearchResult(List.of(), 0, null);
+        }
+
+        List<String> terms = hasText(command.keyword()) ? keywords.queryTerms(command.keyword()) : List.of();
+        RoaringBitmap candidates = filter(command, terms);
+        long total = candidates.getLongCardinality();
+        SortField sortField = SortField.from(command.sortBy());
+        boolean descending = !"ASC".equalsIgnoreCase(command.sortDirection());
+        if (sortField == SortField.RELEVANCE && terms.isEmpty()) {
+            // 키워드 없는 관련도 정렬은 최신 등록순
+            sortField = SortField.POSTED_AT;
+            descending = true;
+        }
+        // 다른 정렬 기준(DB 검색 등)으로 만든 커서는 IllegalArgumentException
+        SearchCursor after = SearchCursor.decode(command.cursor(), sortField.parameter());
+        int offset = after != null ? 0 : command.page() * command.size();
+        if (offset >= total) {
+            return new IndexSearchResult(List.of(), total, null);
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 수집
+        int limit = command.size() + 1;
+        float[] scores = null;
+        int[] page;
+        if (sortField == SortField.RELEVANCE) {
+            scores = keywords.score(terms, candidates);
+            page = topByScore(scores, candidates, offset, limit, after);
+        } else if (sortField == SortField.MATCH_SCORE) {
+            scores = matchScores(command.userTechStackIds(), candidates);
+            page = topByScore(scores, candidates, offset, limit, after);
+        } else {
+            SortOrder order = sortOrder(sortField);
+            int startStep = after != null ? order.stepAfter(after.dateKey(), after.id(), descending) : 0;
+            page = topBySortOrder(order, descending, candidates, offset, limit, startStep);
+        }
+
+        int pageLength = Math.min(page.length, command.size());
+        List<Long> pageIds = new ArrayList<>(pageLength);
+        for (int i = 0; i < pageLength; i++) {
+            pageIds.add(documents.get(page[i]).getId());
+        }
+
+        String nextCursor = null;
+        if (page.length > pageLength) {
+            Job last = documents.get(page[pageLength - 1]);
+            String sortKey = scores != null
+                    ? Float.toString(scores[(int) candidates.rank(page[pageLength - 1]) - 1])
+                    : Objects.toString(sortField.valueOf(last), null);
+            nextCursor = new SearchCursor(sortField.parameter(), sortKey, last.getId()).encode();
+        }
+        return new IndexSearchResult(pageIds, total, nextCursor);
+    }
+
+    /**
+     * 후보 문서의 매칭 점수 (Job.matchScore와 같은 식)
+     * 사용자 기술 스택마다 필수/우대 비트맵을 후보와 교집합해 문서별 일치 수를 누적한 뒤 한 번에 점수로 바꾼다.
+     * 공고 본문은 읽지 않는다.
+     * @return 후보 비트맵 내 순서(rank)로 인덱싱된 점수 배열
+     */
+    private float[] matchScores(List<Long> userTechStackIds, RoaringBitmap candidates) {
+        int count = candidates.getCardinality();
+        float[] scores = new float[count];
+        if (count == 0 || userTechStackIds == null || userTechStackIds.isEmpty()) {
+            return scores;
+        }
+        int[] requiredMatches = new int[count];
+        int[] preferredMatches = new int[count];
+        for (Long techStackId : new LinkedHashSet<>(userTechStackIds)) {
+            countMatches(byRequiredTechStack.and(techStackId, candidates), candidates, requiredMatches);
+            countMatches(byPreferredTechStack.and(techStackId, candidates), candidates, preferredMatches);
+        }
+        PeekableIntIterator it = candidates.getIntIterator();
+        for (int rank = 0; it.hasNext(); rank++) {
+            int ordinal = it.next();
+            scores[rank] = (float) Job.matchScore(
+                    requiredMatches[rank], requiredCounts[ordinal], preferredMatches[rank], preferredCounts[ordinal]);
+        }
+        return scores;
+    }
+
+    private static void countMatches(RoaringBitmap matched, RoaringBitmap candidates, int[] matchesByRank) {
+        PeekableIntIterator it = matched.getIntIterator();
+        while (it.hasNext()) {
+            matchesByRank[(int) candidates.rank(it.next()) - 1]++;
+        }
+    }
+
+    /**
+     * 점수(BM25F 관련도 또는 매칭 점수) 상위 offset+limit 개만 힙으로 골라낸 뒤 요청 페이지 구간 반환
+     * 점수가 같으면 최근 색인된(ID가 큰) 공고 우선, 정렬 방향은 무시한다.
+     * 커서가 있으면 커서보다 뒤 순위인 문서만 힙에 넣는다.
+     */
+    private int[] topByScore(float[] scores, RoaringBitmap candidates, int offset, int limit, SearchCursor after) {
+        float afterScore = after != null ? after.scoreKey() : 0f;
+        TopKCollector topK = new TopKCollector(Math.min(offset + limit, scores.length));
+        PeekableIntIterator it = candidates.getIntIterator();
+        for (int rank = 0; it.hasNext(); rank++) {
+            int ordinal = it.next();
+            long id = documents.get(ordinal).getId();
+            if (after != null && (scores[rank] > afterScore || (scores[rank] == afterScore && id >= after.id()))) {
+                continue;
+            }
+            topK.offer(scores[rank], id, ordinal);
+        }
+        int[] ranked = topK.drainInOrder();
+        return Arrays.copyOfRange(ranked, Math.min(offset, ranked.length), ranked.length);
+    }
+
+    /**
+     * 미리 정렬된 배열을 startStep부터 따라가며 후보만 고르거나, 후보가 적으면 정렬 순번을 키로 힙에서 고른다.
+     * 배열 스캔 비용은 (offset+limit) / 후보 비율, 힙 비용은 후보 수 * log K 로 추정해 싼 쪽을 택한다.
+     */
+    private int[] topBySortOrder(SortOrder order, boolean descending, RoaringBitmap candidates,
+                                 int offset, int limit, int startStep) {
+        int wanted = offset + limit;
+        int candidateCount = candidates.getCardinality();
+        double expectedScan = (double) wanted * order.size() / candidateCount;
+        double heapCost = candidateCount * (32 - Integer.numberOfLeadingZeros(wanted));
+
+        if (expectedScan <= heapCost) {
+            int[] page = new int[Math.min(limit, candidateCount)];
+            int matched = 0;
+            int filled = 0;
+            for (int step = startStep; step < order.size() && filled < page.length; step++) {
+                int ordinal = order.ordinalAt(step, descending);
+                if (candidates.contains(ordinal) && matched++ >= offset) {
+                    page[filled++] = ordinal;
+                }
+            }
+            return filled == page.length ? page : Arrays.copyOf(page, filled);
+        }
+
+        TopKCollector topK = new TopKCollector(Math.min(wanted, candidateCount));
+        PeekableIntIterator it = candidates.getIntIterator();
+        while (it.hasNext()) {
+            int ordinal = it.next();
+            int step = order.stepOf(ordinal, descending);
+            if (step >= startStep) {
+                topK.offer(-step, 0, ordinal);
+            }
+        }
+        int[] ranked = topK.drainInOrder();
+        return Arrays.copyOfRange(ranked, Math.min(offset, ranked.length), ranked.length);
+    }
+
+    /**
+     * 정렬 배열은 첫 사용 시 만들고 문서가 추가되면 버린다.
+     * 검색은 read lock 아래 동시에 실행되므로 생성은 이 메서드에서 직렬화한다.
+     */
+    private synchronized SortOrder sortOrder(SortField field) {
+        return sortOrders.computeIfAbsent(field, f -> SortOrder.build(documents, f));
+    }
+
+    private synchronized void invalidateSortOrders() {
+        sortOrders.clear();
+    }
+
+    /**
+     * SearchJobsCommand의 facet/키워드 조건을 live 문서 비트맵으로 변환
+     * 값이 여러 개인 facet은 OR, facet 사이는 AND
+     */
+    private RoaringBitmap filter(SearchJobsCommand command, List<String> keywordTerms) {
+        List<RoaringBitmap> facets = new ArrayList<>();
+        facets.add(live);
+
+        if (command.companyIds() != null && !command.companyIds().isEmpty()) {
+            facets.add(byCompany.union(command.companyIds()));
+        }
+        if (command.techStackIds() != null && !command.techStackIds().isEmpty()) {
+            facets.add(byTechStack.union(command.techStackIds()));
+        }
+        if (command.experienceLevel() != null && !command.experienceLevel().isBlank()) {
+            facets.add(byExperienceCategory.union(parseEnums(ExperienceCategory.class, command.experienceLevel())));
+        }
+        if (command.jobType() != null && !command.jobType().isBlank()) {
+            facets.add(byJobType.union(parseEnums(Job.JobType.class, command.jobType())));
+        }
+        if (command.location() != null && !command.location().isBlank()) {
+            facets.add(locationFilter(command.location()));
+        }
+        if (hasText(command.keyword())) {
+            facets.add(keywords.match(keywordTerms));
+        }
+        return FastAggregation.and(facets.iterator());
+    }
+
+    /**
+     * "서울, 판교"처럼 쉼표로 구분된 지역은 OR, 한 지역 안의 단어("서울 강남")는 모두 포함해야 한다.
+     */
+    private RoaringBitmap locationFilter(String location) {
+        List<RoaringBitmap> alternatives = new ArrayList<>();
+        for (String alternative : LIST_SEPARATOR.split(location.trim())) {
+            Set<String> terms = locationTerms(alternative);
+            if (!terms.isEmpty()) {
+                alternatives.add(byLocationTerm.intersection(terms));
+            }
+        }
+        return FastAggregation.or(alternatives.iterator());
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static <E extends Enum<E>> List<E> parseEnums(Class<E> type, String names) {
+        return Arrays.stream(LIST_SEPARATOR.split(names.trim()))
+                .map(name -> parseEnum(type, name))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name) {
+        try {
+            return Enum.valueOf(type, name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Set<String> locationTerms(String location) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (location == null) {
+            return terms;
+        }
+        for (String term : LOCATION_SEPARATOR.split(location.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * @return 색인한 기술 스택 수
+     */
+    private static int addTechStacks(FacetBitmaps<Long> bitmaps, Set<TechStack> techStacks, int ordinal) {
+        if (techStacks == null) {
+            return 0;
+        }
+        for (TechStack techStack : techStacks) {
+            if (techStack.getId() != null) {
+                bitmaps.add(techStack.getId(), ordinal);
+            }
+        }
+        return techStacks.size();
+    }
+
+    private static Set<Long> techStackIds(Job job) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (job.getRequiredTechStacks() != null) {
+            job.getRequiredTechStacks().stream().map(TechStack::getId).forEach(ids::add);
+        }
+        if (job.getPreferredTechStacks() != null) {
+            job.getPreferredTechStacks().stream().map(TechStack::getId).forEach(ids::add);
+        }
+        ids.remove(null);
+        return ids;
+    }
+}
@@ -0,0 +1,218 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 키워드 n-gram inverted index와 BM25F 점수 계산
+ * 채용공고 색인 시 한 번만 토큰화하고, 검색 시에는 검색어 토큰의 비트맵 교집합과
+ * 토큰별 posting의 필드 빈도만 읽는다.
+ * 문서 수, 필드 길이 합계와 posting은 삭제된 문서를 빼고 유지해 BM25 통계가 살아 있는 문서만 반영한다.
+ */
+final class KeywordIndex {
+
+    /**
+     * 색인 필드와 BM25F 가중치 (제목이 본문보다 우선)
+     */
+    enum Field {
+        TITLE(3.0f),
+        DESCRIPTION(1.0f),
+        REQUIREMENTS(1.0f),
+        PREFERRED(0.8f);
+
+        private final float weight;
+
+        Field(float weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MAX_TF = 0xFF;
+
+    private final Map<String, TermPostings> postings = new HashMap<>();
+    private final int[][] fieldLengths = new int[FIELDS.length][16];
+    private final long[] totalFieldLengths = new long[FIELDS.length];
+    private int documentCount;
+
+    /**
+     * 문서 색인 (ordinal은 0부터 순서대로 증가해야 한다)
+     */
+    void add(int ordinal, String title, String description, String requirements, String preferred) {
+        String[] values = {title, description, requirements, preferred};
+        Map<String, int[]> termFrequencies = new HashMap<>();
+
+        for (int f = 0; f < FIELDS.length; f++) {
+            int field = f;
+            int[] length = {0};
+            KoreanNGramTokenizer.tokenizeDocument(values[f], term -> {
+                termFrequencies.computeIfAbsent(term, k -> new int[FIELDS.length])[field]++;
+                length[0]++;
+            });
+            if (ordinal >= fieldLengths[f].length) {
+                fieldLengths[f] = Arrays.copyOf(fieldLengths[f], Math.max(ordinal + 1, fieldLengths[f].length * 2));
+            }
+            fieldLengths[f][ordinal] = length[0];
+            totalFieldLengths[f] += length[0];
+        }
+        documentCount++;
+
+        termFrequencies.forEach((term, tf) ->
+                postings.computeIfAbsent(term, k -> new TermPostings()).add(ordinal, pack(tf)));
+    }
+
+    /**
+     * 문서 색인 해제 (색인할 때와 같은 필드 값을 넘겨야 한다)
+     */
+    void remove(int ordinal, String title, String description, String requirements, String preferred) {
+        String[] values = {title, description, requirements, preferred};
+        Set<String> terms = new HashSet<>();
+        for (int f = 0; f < FIELDS.length; f++) {
+            KoreanNGramTokenizer.tokenizeDocument(values[f], terms::add);
+            totalFieldLengths[f] -= fieldLengths[f][ordinal];
+            fieldLengths[f][ordinal] = 0;
+        }
+        documentCount--;
+
+        for (String term : terms) {
+            TermPostings termPostings = postings.get(term);
+            if (termPostings != null && termPostings.remove(ordinal) && termPostings.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * 검색어 토큰 (중복 제거)
+     */
+    List<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        KoreanNGramTokenizer.tokenizeQuery(keyword, terms::add);
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * 모든 토큰을 포함하는 문서
+     * 토큰이 하나도 없는 검색어는 어떤 문서와도 일치하지 않는다.
+     */
+    RoaringBitmap match(List<String> terms) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            TermPostings termPostings = postings.get(term);
+            if (termPostings == null) {
+                return new RoaringBitmap();
+            }
+            bitmaps.add(termPostings.documents);
+        }
+        return bitmaps.isEmpty() ? new RoaringBitmap() : FastAggregation.and(bitmaps.iterator());
+    }
+
+    /**
+     * 후보 문서의 BM25F 점수
+     * @return 후보 비트맵 내 순서(rank)로 인덱싱된 점수 배열
+     */
+    float[] score(List<String> terms, RoaringBitmap candidates) {
+        float[] scores = new float[candidates.getCardinality()];
+        if (scores.length == 0) {
+            return scores;
+        }
+
+        float[] averageLengths = new float[FIELDS.length];
+        for (int f = 0; f < FIELDS.length; f++) {
+            averageLengths[f] = Math.max(1f, (float) totalFieldLengths[f] / Math.max(1, documentCount));
+        }
+
+        for (String term : terms) {
+            TermPostings termPostings = postings.get(term);
+            if (termPostings == null) {
+                continue;
+            }
+            int df = termPostings.size;
+            float idf = (float) Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+
+            for (int i = 0; i < termPostings.size; i++) {
+                int ordinal = termPostings.ordinals[i];
+                if (!candidates.contains(ordinal)) {
+                    continue;
+                }
+                int packed = termPostings.frequencies[i];
+                float weightedTf = 0f;
+                for (int f = 0; f < FIELDS.length; f++) {
+                    int tf = (packed >>> (f * 8)) & MAX_TF;
+                    if (tf > 0) {
+                        float norm = 1 - B + B * fieldLengths[f][ordinal] / averageLengths[f];
+                        weightedTf += FIELDS[f].weight * tf / norm;
+                    }
+                }
+                scores[(int) candidates.rank(ordinal) - 1] += idf * weightedTf * (K1 + 1) / (weightedTf + K1);
+            }
+        }
+        return scores;
+    }
+
+    void optimize() {
+        postings.values().forEach(TermPostings::optimize);
+    }
+
+    private static int pack(int[] tf) {
+        int packed = 0;
+        for (int f = 0; f < FIELDS.length; f++) {
+            packed |= Math.min(tf[f], MAX_TF) << (f * 8);
+        }
+        return packed;
+    }
+
+    /**
+     * 토큰별 문서 목록과 필드별 출현 빈도 (필드당 8비트로 압축)
+     */
+    private static final class TermPostings {
+        private final RoaringBitmap documents = new RoaringBitmap();
+        private int[] ordinals = new int[2];
+        private int[] frequencies = new int[2];
+        private int size;
+
+        void add(int ordinal, int packedFrequencies) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, Math.max(2, size * 2));
+                frequencies = Arrays.copyOf(frequencies, Math.max(2, size * 2));
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = packedFrequencies;
+            size++;
+            documents.add(ordinal);
+        }
+
+        /**
+         * 문서 제거 (ordinal이 오름차순으로 추가되므로 이진 탐색)
+         * @return 문서가 있었는지 여부
+         */
+        boolean remove(int ordinal) {
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ordinals, index + 1, ordinals, index, size - index - 1);
+            System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+            size--;
+            documents.remove(ordinal);
+            return true;
+        }
+
+        void optimize() {
+            documents.runOptimize();
+            ordinals = Arrays.copyOf(ordinals, size);
+            frequencies = Arrays.copyOf(frequencies, size);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 한글/영문 혼용 텍스트용 토크나이저
+ * - 영문/숫자 연속 구간은 소문자 단어 하나로 ("Spring", "C++", "MSA")
+ * - 한글(및 한자) 연속 구간은 음절 bigram으로 ("백엔드" -> "백엔", "엔드")
+ * - 영문 바로 뒤에 붙은 조사는 버린다 ("Kotlin을" -> "kotlin", "C++를" -> "c++")
+ *
+ * 문서 색인 시에는 한 음절 검색어도 찾을 수 있도록 음절 unigram도 함께 만들고,
+ * 검색어는 구간이 한 음절일 때만 unigram을 만든다.
+ */
+final class KoreanNGramTokenizer {
+
+    private static final Set<String> JOSA = Set.of(
+            "은", "는", "이", "가", "을", "를", "의", "에", "와", "과", "로", "도", "만", "랑",
+            "으로", "에서", "에게", "까지", "부터", "보다", "처럼", "이나", "하고", "이랑"
+    );
+
+    private KoreanNGramTokenizer() {
+    }
+
+    /**
+     * 문서 필드 토큰화
+     */
+    static void tokenizeDocument(String text, Consumer<String> sink) {
+        tokenize(text, false, sink);
+    }
+
+    /**
+     * 검색어 토큰화
+     */
+    static void tokenizeQuery(String text, Consumer<String> sink) {
+        tokenize(text, true, sink);
+    }
+
+    private static void tokenize(String text, boolean query, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int start = i;
+                while (i < length && isSyllable(text.charAt(i))) {
+                    i++;
+                }
+                boolean attachedToWord = start > 0 && isWordSuffix(text.charAt(start - 1));
+                if (attachedToWord && i - start <= 2 && JOSA.contains(text.substring(start, i))) {
+                    continue;
+                }
+                emitSyllables(text, start, i, query, sink);
+            } else if (isWordChar(c)) {
+                int start = i;
+                while (i < length && isWordChar(text.charAt(i))) {
+                    i++;
+                }
+                // C++, C# 같은 표기 유지
+                while (i < length && (text.charAt(i) == '+' || text.charAt(i) == '#')) {
+                    i++;
+                }
+                sink.accept(text.substring(start, i).toLowerCase(Locale.ROOT));
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static void emitSyllables(String text, int start, int end, boolean query, Consumer<String> sink) {
+        if (end - start == 1) {
+            sink.accept(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            sink.accept(text.substring(i, i + 2));
+        }
+        if (!query) {
+            for (int i = start; i < end; i++) {
+                sink.accept(text.substring(i, i + 1));
+            }
+        }
+    }
+
+    private static boolean isSyllable(char c) {
+        return (c >= '가' && c <= '힣')   // 한글 음절
+                || (c >= 'ㄱ' && c <= 'ㆎ') // 한글 호환 자모
+                || (c >= '一' && c <= '鿿'); // CJK 한자
+    }
+
+    // 영문 단어 끝 (C++, C#의 기호 포함)
+    private static boolean isWordSuffix(char c) {
+        return isWordChar(c) || c == '+' || c == '#';
+    }
+
+    private static boolean isWordChar(char c) {
+        return !isSyllable(c) && Character.isLetterOrDigit(c);
+    }
+}
@@ -0,0 +1,45 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+import com.asyncsite.jobnavigator.domain.Job;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 검색 정렬 기준
+ */
+enum SortField {
+    RELEVANCE("relevance", null),
+    MATCH_SCORE("matchScore", null),
+    POSTED_AT("postedAt", Job::getPostedAt),
+    EXPIRES_AT("expiresAt", Job::getExpiresAt),
+    CREATED_AT("createdAt", Job::getCreatedAt);
+
+    private final String parameter;
+    private final Function<Job, LocalDateTime> value;
+
+    SortField(String parameter, Function<Job, LocalDateTime> value) {
+        this.parameter = parameter;
+        this.value = value;
+    }
+
+    String parameter() {
+        return parameter;
+    }
+
+    LocalDateTime valueOf(Job job) {
+        return value.apply(job);
+    }
+
+    /**
+     * sortBy 파라미터 해석 (알 수 없는 값은 등록일순)
+     */
+    static SortField from(String sortBy) {
+        for (SortField field : values()) {
+            if (field.parameter.equals(sortBy)) {
+                return field;
+            }
+        }
+        return POSTED_AT;
+    }
+}
@@ -0,0 +1,139 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+import com.asyncsite.jobnavigator.domain.Job;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 날짜 필드 기준으로 미리 정렬해 둔 ordinal 배열
+ * 값이 있는 문서를 (값, ID) 오름차순으로, 값이 없는 문서를 ID 오름차순으로 그 뒤에 둔다.
+ * 내림차순은 두 구간을 각각 뒤에서부터 읽으므로 방향과 관계없이 값이 없는 문서는 항상 마지막이다.
+ */
+final class SortOrder {
+
+    private final int[] ordinals;
+    private final LocalDateTime[] values;
+    private final long[] ids;
+    private final int[] positionByOrdinal;
+    private final int nonNullCount;
+
+    private SortOrder(int[] ordinals, LocalDateTime[] values, long[] ids, int[] positionByOrdinal, int nonNullCount) {
+        this.ordinals = ordinals;
+        this.values = values;
+        this.ids = ids;
+        this.positionByOrdinal = positionByOrdinal;
+        this.nonNullCount = nonNullCount;
+    }
+
+    /**
+     * 색인된 문서 전체(삭제된 ordinal 제외)로 정렬 배열 생성
+     */
+    static SortOrder build(List<Job> documents, SortField field) {
+        Comparator<Integer> byValue = Comparator.comparing(
+                (Integer ordinal) -> field.valueOf(documents.get(ordinal)),
+                Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()));
+        Integer[] sorted = new Integer[documents.size()];
+        int count = 0;
+        int nonNullCount = 0;
+        for (int ordinal = 0; ordinal < documents.size(); ordinal++) {
+            Job job = documents.get(ordinal);
+            if (job != null) {
+                sorted[count++] = ordinal;
+                if (field.valueOf(job) != null) {
+                    nonNullCount++;
+                }
+            }
+        }
+        Arrays.sort(sorted, 0, count, byValue.thenComparing(ordinal -> documents.get(ordinal).getId()));
+
+        int[] ordinals = new int[count];
+        LocalDateTime[] values = new LocalDateTime[count];
+        long[] ids = new long[count];
+        int[] positionByOrdinal = new int[documents.size()];
+        Arrays.fill(positionByOrdinal, -1);
+        for (int position = 0; position < count; position++) {
+            Job job = documents.get(sorted[position]);
+            ordinals[position] = sorted[position];
+            values[position] = field.valueOf(job);
+            ids[position] = job.getId();
+            positionByOrdinal[sorted[position]] = position;
+        }
+        return new SortOrder(ordinals, values, ids, positionByOrdinal, nonNullCount);
+    }
+
+    int size() {
+        return ordinals.length;
+    }
+
+    /**
+     * 정렬 방향으로 step번째 문서의 ordinal
+     */
+    int ordinalAt(int step, boolean descending) {
+        return ordinals[descending ? descendingPosition(step) : step];
+    }
+
+    /**
+     * 정렬 방향으로 읽었을 때 문서의 순번 (앞설수록 작다, 정렬 배열 생성 이후 추가된 문서는 -1)
+     */
+    int stepOf(int ordinal, boolean descending) {
+        int position = ordinal < positionByOrdinal.length ? positionByOrdinal[ordinal] : -1;
+        if (position < 0 || !descending) {
+            return position;
+        }
+        return descendingPosition(position);
+    }
+
+    /**
+     * 커서 (값, ID) 바로 다음 문서의 순번 (이진 탐색, 커서 문서가 이미 삭제되었어도 동작)
+     */
+    int stepAfter(LocalDateTime value, long id, boolean descending) {
+        int length = ordinals.length;
+        if (value != null) {
+            if (!descending) {
+                return firstPosition(0, nonNullCount, value, id, false);
+            }
+            return nonNullCount - firstPosition(0, nonNullCount, value, id, true);
+        }
+        if (!descending) {
+            return firstPosition(nonNullCount, length, null, id, false);
+        }
+        return nonNullCount + length - firstPosition(nonNullCount, length, null, id, true);
+    }
+
+    // [from, to) 구간에서 (value, id)보다 큰(inclusive면 크거나 같은) 첫 위치
+    private int firstPosition(int from, int to, LocalDateTime value, long id, boolean inclusive) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int compared = compareAt(mid, value, id);
+            if (compared > 0 || (inclusive && compared == 0)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private int compareAt(int position, LocalDateTime value, long id) {
+        if (value != null) {
+            int compared = values[position].compareTo(value);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Long.compare(ids[position], id);
+    }
+
+    // 내림차순 순번 <-> 배열 위치 변환 (자기 자신이 역함수)
+    private int descendingPosition(int index) {
+        if (index < nonNullCount) {
+            return nonNullCount - 1 - index;
+        }
+        return ordinals.length - 1 - (index - nonNullCount);
+    }
+}
@@ -0,0 +1,105 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+/**
+ * 상위 K개 문서만 유지하는 bounded min-heap
+ * 전체 후보를 정렬하지 않고 (page+1)*size 개만 순서를 확정한다.
+ * 키가 클수록, 키가 같으면 tie 값이 클수록 앞선다.
+ */
+final class TopKCollector {
+
+    private final int capacity;
+    private final double[] keys;
+    private final long[] ties;
+    private final int[] ordinals;
+    private int size;
+
+    TopKCollector(int capacity) {
+        this.capacity = capacity;
+        this.keys = new double[capacity];
+        this.ties = new long[capacity];
+        this.ordinals = new int[capacity];
+    }
+
+    void offer(double key, long tie, int ordinal) {
+        if (capacity == 0) {
+            return;
+        }
+        if (size < capacity) {
+            keys[size] = key;
+            ties[size] = tie;
+            ordinals[size] = ordinal;
+            siftUp(size++);
+        } else if (before(key, tie, keys[0], ties[0])) {
+            keys[0] = key;
+            ties[0] = tie;
+            ordinals[0] = ordinal;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 앞선 순서대로 정렬된 ordinal (힙은 비워진다)
+     */
+    int[] drainInOrder() {
+        int[] result = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = ordinals[0];
+            size--;
+            if (size > 0) {
+                move(size, 0);
+                siftDown(0);
+            }
+        }
+        return result;
+    }
+
+    private static boolean before(double key, long tie, double otherKey, long otherTie) {
+        return key > otherKey || (key == otherKey && tie > otherTie);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(keys[parent], ties[parent], keys[index], ties[index])) {
+                break;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int worst = left;
+            int right = left + 1;
+            if (right < size && before(keys[left], ties[left], keys[right], ties[right])) {
+                worst = right;
+            }
+            if (!before(keys[index], ties[index], keys[worst], ties[worst])) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        ties[to] = ties[from];
+        ordinals[to] = ordinals[from];
+    }
+
+    private void swap(int a, int b) {
+        double key = keys[a];
+        long tie = ties[a];
+        int ordinal = ordinals[a];
+        move(b, a);
+        keys[b] = key;
+        ties[b] = tie;
+        ordinals[b] = ordinal;
+    }
+}
@@ -7,9 +7,13 @@ import com.asyncsite.jobnavigator.application.port.out.SaveCompanyPort;
 import com.asyncsite.jobnavigator.domain.Company;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,21 +29,64 @@ public class CompanyPersistenceAdapter implements LoadCompanyPort, SaveCompanyPo
     
     private final CompanyJpaRepository companyRepository;
     private final CompanyMapper companyMapper;
+    private final ReferenceDataDictionary dictionary;
+    
+    /**
+     * 기동 시 전체 회사를 상주 사전에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadDictionary() {
+        companyRepository.findAll().stream()
+                .map(companyMapper::toDomain)
+                .forEach(dictionary::putCompany);
+        log.info("Loaded {} companies into the reference dictionary", dictionary.companyCount());
+    }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<Company> loadCompany(Long companyId) {
+        Optional<Company> cached = dictionary.company(companyId);
+        if (cached.isPresent()) {
+            return cached;
+        }
         log.debug("Loading company with id: {}", companyId);
         return companyRepository.findById(companyId)
-                .map(companyMapper::toDomain);
+                .map(companyMapper::toDomain)
+                .map(this::remember);
     }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<Company> loadCompanyByName(String name) {
+        Optional<Company> cached = dictionary.companyByName(name);
+        if (cached.isPresent()) {
+            return cached;
+        }
         log.debug("Loading company with name: {}", name);
         return companyRepository.findByName(name)
-                .map(companyMapper::toDomain);
+                .map(companyMapper::toDomain)
+                .map(this::remember);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Company> loadCompaniesByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        List<Company> companies = new ArrayList<>(names.size());
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            dictionary.companyByName(name).ifPresentOrElse(companies::add, () -> missing.add(name));
+        }
+        if (!missing.isEmpty()) {
+            companyRepository.findByNameIn(missing).stream()
+                    .map(companyMapper::toDomain)
+                    .map(this::remember)
+                    .forEach(companies::add);
+        }
+        return companies;
     }
     
     @Override
@@ -69,4 +116,20 @@ public class CompanyPersistenceAdapter implements LoadCompanyPort, SaveCompanyPo
         
         return companyMapper.toDomain(saved);
     }
-}
\ No newline at end of file
+    
+    @Override
+    public Company getOrCreateCompany(Company company) {
+        return dictionary.companyByName(company.getName()).orElseGet(() -> remember(dictionary.getOrCreate(
+                company.getName(),
+                () -> companyRepository.findByName(company.getName()).map(companyMapper::toDomain),
+                () -> {
+                    log.debug("Creating company: {}", company.getName());
+                    return companyMapper.toDomain(companyRepository.saveAndFlush(companyMapper.toEntity(company)));
+                })));
+    }
+    
+    private Company remember(Company company) {
+        dictionary.putCompany(company);
+        return company;
+    }
+}
@@ -0,0 +1,41 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence;
+
+import com.asyncsite.jobnavigator.adapter.out.persistence.entity.CompanyJpaEntity;
+import com.asyncsite.jobnavigator.adapter.out.persistence.entity.CrawlLogJpaEntity;
+import com.asyncsite.jobnavigator.adapter.out.persistence.repository.CompanyJpaRepository;
+import com.asyncsite.jobnavigator.adapter.out.persistence.repository.CrawlLogRepository;
+import com.asyncsite.jobnavigator.application.port.out.SaveCrawlLogPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 수집 이력 영속성 어댑터 구현
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class CrawlLogPersistenceAdapter implements SaveCrawlLogPort {
+    
+    private final CrawlLogRepository crawlLogRepository;
+    private final CompanyJpaRepository companyRepository;
+    
+    @Override
+    public void saveCrawlLog(CrawlLogEntry entry) {
+        CompanyJpaEntity company = companyRepository.getReferenceById(entry.companyId());
+        crawlLogRepository.save(CrawlLogJpaEntity.builder()
+                .company(company)
+                .status(CrawlLogJpaEntity.CrawlStatus.valueOf(entry.status().name()))
+                .jobsFound(entry.jobsFound())
+                .jobsCreated(entry.jobsCreated())
+                .jobsUpdated(entry.jobsUpdated())
+                .errorMessage(entry.errorMessage())
+                .startedAt(entry.startedAt())
+                .finishedAt(entry.finishedAt())
+                .build());
+        log.debug("Recorded crawl log for company {}: {} found, {} created, {} updated",
+                entry.companyId(), entry.jobsFound(), entry.jobsCreated(), entry.jobsUpdated());
+    }
+}
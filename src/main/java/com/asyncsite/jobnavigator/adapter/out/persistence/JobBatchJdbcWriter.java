@@ -0,0 +1,277 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence;
+
+import com.asyncsite.jobnavigator.domain.Job;
+import com.asyncsite.jobnavigator.domain.TechStack;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채용공고 일괄 INSERT/UPDATE (JDBC 배치)
+ * JPA의 IDENTITY 전략은 INSERT를 배치로 묶지 못하므로 대량 수집 경로에서만 직접 JDBC 배치를 사용한다.
+ * MySQL 드라이버의 rewriteBatchedStatements 옵션과 함께 쓰면 청크당 다중 VALUES INSERT 한 번으로 전송된다.
+ * 호출자의 트랜잭션(JPA)과 같은 커넥션에서 실행된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class JobBatchJdbcWriter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_JOB_SQL = "INSERT INTO job_postings " +
+            "(company_id, title, description, requirements, preferred, job_type, experience_requirement, " +
+            "experience_category, location, source_url, posted_at, expires_at, is_active, crawled_at, content_hash, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_JOB_SQL = "UPDATE job_postings SET " +
+            "company_id = ?, title = ?, description = ?, requirements = ?, preferred = ?, job_type = ?, " +
+            "experience_requirement = ?, experience_category = ?, location = ?, source_url = ?, posted_at = ?, " +
+            "expires_at = ?, is_active = ?, crawled_at = ?, content_hash = ?, updated_at = ? WHERE id = ?";
+
+    private static final String INSERT_TECH_STACK_SQL = "INSERT INTO job_tech_stacks " +
+            "(job_posting_id, tech_stack_id, is_required) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_TECH_STACK_SQL = "UPDATE job_tech_stacks SET is_required = ? " +
+            "WHERE job_posting_id = ? AND tech_stack_id = ?";
+
+    private static final String DELETE_TECH_STACK_SQL = "DELETE FROM job_tech_stacks " +
+            "WHERE job_posting_id = ? AND tech_stack_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 신규 채용공고와 기술 스택 연결을 일괄 저장
+     * @return 생성된 ID와 저장 시각이 반영된 채용공고 목록 (입력 순서)
+     */
+    List<Job> insertJobs(List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> generatedIds = insertJobRows(connection, jobs, now);
+            insertTechStackRows(connection, jobs, generatedIds);
+            return generatedIds;
+        });
+
+        List<Job> saved = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            saved.add(withSavedState(jobs.get(i), ids.get(i), now));
+        }
+        log.debug("Batch inserted {} jobs", saved.size());
+        return saved;
+    }
+
+    private List<Long> insertJobRows(Connection connection, List<Job> jobs, LocalDateTime now) throws SQLException {
+        List<Long> ids = new ArrayList<>(jobs.size());
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_JOB_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int start = 0; start < jobs.size(); start += BATCH_SIZE) {
+                int end = Math.min(start + BATCH_SIZE, jobs.size());
+                for (Job job : jobs.subList(start, end)) {
+                    bindJobColumns(statement, job, now);
+                    setTimestamp(statement, 16, now);
+                    setTimestamp(statement, 17, now);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+            }
+        }
+        if (ids.size() != jobs.size()) {
+            throw new IllegalStateException("Expected " + jobs.size() + " generated keys but got " + ids.size());
+        }
+        return ids;
+    }
+
+    private void insertTechStackRows(Connection connection, List<Job> jobs, List<Long> jobIds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_TECH_STACK_SQL)) {
+            int pending = 0;
+            for (int i = 0; i < jobs.size(); i++) {
+                Job job = jobs.get(i);
+                pending += addTechStackRows(statement, jobIds.get(i), job.getRequiredTechStacks(), true);
+                pending += addTechStackRows(statement, jobIds.get(i), job.getPreferredTechStacks(), false);
+                if (pending >= BATCH_SIZE) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private int addTechStackRows(PreparedStatement statement, Long jobId, Set<TechStack> techStacks,
+                                 boolean required) throws SQLException {
+        if (techStacks == null) {
+            return 0;
+        }
+        for (TechStack techStack : techStacks) {
+            statement.setLong(1, jobId);
+            statement.setLong(2, techStack.getId());
+            statement.setBoolean(3, required);
+            statement.addBatch();
+        }
+        return techStacks.size();
+    }
+
+    /**
+     * 기존 채용공고와 기술 스택 연결을 일괄 갱신 (연결은 변경분만 반영)
+     */
+    void updateJobs(List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_JOB_SQL)) {
+                for (int start = 0; start < jobs.size(); start += BATCH_SIZE) {
+                    for (Job job : jobs.subList(start, Math.min(start + BATCH_SIZE, jobs.size()))) {
+                        bindJobColumns(statement, job, now);
+                        setTimestamp(statement, 16, now);
+                        statement.setLong(17, job.getId());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            return null;
+        });
+        syncTechStackRows(jobs);
+        log.debug("Batch updated {} jobs", jobs.size());
+    }
+
+    private void syncTechStackRows(List<Job> jobs) {
+        Map<Long, Map<Long, Boolean>> existingLinks = loadTechStackLinks(jobs.stream().map(Job::getId).toList());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        for (Job job : jobs) {
+            Map<Long, Boolean> existing = existingLinks.getOrDefault(job.getId(), Map.of());
+            Map<Long, Boolean> desired = desiredLinks(job);
+            desired.forEach((techStackId, required) -> {
+                Boolean current = existing.get(techStackId);
+                if (current == null) {
+                    inserts.add(new Object[] {job.getId(), techStackId, required});
+                } else if (!current.equals(required)) {
+                    updates.add(new Object[] {required, job.getId(), techStackId});
+                }
+            });
+            existing.keySet().stream()
+                    .filter(techStackId -> !desired.containsKey(techStackId))
+                    .forEach(techStackId -> deletes.add(new Object[] {job.getId(), techStackId}));
+        }
+        batchUpdate(DELETE_TECH_STACK_SQL, deletes);
+        batchUpdate(UPDATE_TECH_STACK_SQL, updates);
+        batchUpdate(INSERT_TECH_STACK_SQL, inserts);
+        log.debug("Synced tech stack links: {} added, {} changed, {} removed", inserts.size(), updates.size(), deletes.size());
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        for (int start = 0; start < rows.size(); start += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(start, Math.min(start + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    /**
+     * @return 채용공고 ID -> (기술 스택 ID -> 필수 여부)
+     */
+    private Map<Long, Map<Long, Boolean>> loadTechStackLinks(List<Long> jobIds) {
+        Map<Long, Map<Long, Boolean>> links = new HashMap<>();
+        for (int start = 0; start < jobIds.size(); start += BATCH_SIZE) {
+            List<Long> chunk = jobIds.subList(start, Math.min(start + BATCH_SIZE, jobIds.size()));
+            String sql = "SELECT job_posting_id, tech_stack_id, is_required FROM job_tech_stacks WHERE job_posting_id IN (" +
+                    String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.query(sql, rs -> {
+                links.computeIfAbsent(rs.getLong(1), jobId -> new HashMap<>()).put(rs.getLong(2), rs.getBoolean(3));
+            }, chunk.toArray());
+        }
+        return links;
+    }
+
+    /**
+     * 필수와 우대에 모두 있는 기술 스택은 필수로 본다
+     */
+    private static Map<Long, Boolean> desiredLinks(Job job) {
+        Map<Long, Boolean> links = new HashMap<>();
+        if (job.getPreferredTechStacks() != null) {
+            job.getPreferredTechStacks().forEach(techStack -> links.put(techStack.getId(), false));
+        }
+        if (job.getRequiredTechStacks() != null) {
+            job.getRequiredTechStacks().forEach(techStack -> links.put(techStack.getId(), true));
+        }
+        return links;
+    }
+
+    private void bindJobColumns(PreparedStatement statement, Job job, LocalDateTime now) throws SQLException {
+        statement.setLong(1, job.getCompany().getId());
+        statement.setString(2, job.getTitle());
+        statement.setString(3, job.getDescription());
+        statement.setString(4, job.getRequirements());
+        statement.setString(5, job.getPreferred());
+        statement.setString(6, job.getJobType() != null ? job.getJobType().name() : null);
+        statement.setString(7, job.getExperienceRequirement());
+        statement.setString(8, job.getExperienceCategory() != null ? job.getExperienceCategory().name() : null);
+        statement.setString(9, job.getLocation());
+        statement.setString(10, job.getSourceUrl());
+        setTimestamp(statement, 11, job.getPostedAt());
+        setTimestamp(statement, 12, job.getExpiresAt());
+        statement.setBoolean(13, job.isActive());
+        setTimestamp(statement, 14, job.getCrawledAt() != null ? job.getCrawledAt() : now);
+        statement.setString(15, job.contentHash());
+    }
+
+    private static void setTimestamp(PreparedStatement statement, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.TIMESTAMP);
+        } else {
+            statement.setTimestamp(index, Timestamp.valueOf(value));
+        }
+    }
+
+    private static Job withSavedState(Job job, Long id, LocalDateTime now) {
+        return Job.fromEntity(
+                id,
+                job.getCompany(),
+                job.getTitle(),
+                job.getDescription(),
+                job.getRequirements(),
+                job.getPreferred(),
+                job.getJobType(),
+                job.getExperienceRequirement(),
+                job.getExperienceCategory(),
+                job.getLocation(),
+                job.getSourceUrl(),
+                job.getPostedAt(),
+                job.getExpiresAt(),
+                job.isActive(),
+                job.getRequiredTechStacks(),
+                job.getPreferredTechStacks(),
+                job.getCrawledAt() != null ? job.getCrawledAt() : now,
+                now,
+                now
+        );
+    }
+}
@@ -5,22 +5,41 @@ import com.asyncsite.jobnavigator.adapter.out.persistence.entity.JobTechStackJpa
 import com.asyncsite.jobnavigator.adapter.out.persistence.entity.TechStackJpaEntity;
 import com.asyncsite.jobnavigator.adapter.out.persistence.mapper.JobMapper;
 import com.asyncsite.jobnavigator.adapter.out.persistence.mapper.TechStackMapper;
+import com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobListRow;
+import com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobFingerprintRow;
+import com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobTechStackRow;
 import com.asyncsite.jobnavigator.adapter.out.persistence.repository.JobJpaRepository;
 import com.asyncsite.jobnavigator.adapter.out.persistence.repository.JobPostingRepository;
+import com.asyncsite.jobnavigator.adapter.out.persistence.repository.JobPostingSpecifications;
 import com.asyncsite.jobnavigator.adapter.out.persistence.repository.JobTechStackJpaRepository;
 import com.asyncsite.jobnavigator.adapter.out.persistence.repository.TechStackJpaRepository;
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchCursor;
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsCommand;
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsResult;
 import com.asyncsite.jobnavigator.application.port.out.LoadJobPort;
 import com.asyncsite.jobnavigator.application.port.out.SaveJobPort;
+import com.asyncsite.jobnavigator.application.port.out.SearchJobPort;
+import com.asyncsite.jobnavigator.domain.ExperienceCategory;
 import com.asyncsite.jobnavigator.domain.Job;
 import com.asyncsite.jobnavigator.domain.TechStack;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -30,7 +49,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
-public class JobPersistenceAdapter implements LoadJobPort, SaveJobPort {
+public class JobPersistenceAdapter implements LoadJobPort, SaveJobPort, SearchJobPort {
+    
+    private static final Set<String> SORT_PROPERTIES = Set.of("postedAt", "expiresAt", "createdAt");
+    private static final int DEACTIVATE_BATCH_SIZE = 500;
     
     private final JobJpaRepository jobRepository;
     private final JobPostingRepository jobPostingRepository;
@@ -38,6 +60,10 @@ public class JobPersistenceAdapter implements LoadJobPort, SaveJobPort {
     private final JobTechStackJpaRepository jobTechStackRepository;
     private final JobMapper jobMapper;
     private final TechStackMapper techStackMapper;
+    private final JobBatchJdbcWriter jobBatchJdbcWriter;
+    
+    /** 키워드 FULLTEXT 인덱스 존재 여부 (첫 키워드 검색 시 확인, null이면 미확인) */
+    private volatile Boolean keywordFullTextIndex;
     
     @Override
     @Transactional(readOnly = true)
@@ -47,22 +73,25 @@ public class JobPersistenceAdapter implements LoadJobPort, SaveJobPort {
                 .map(jobMapper::toDomain);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<Job> loadJobs(List<Long> jobIds) {
+        return loadListJobs(jobIds);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<Job> loadActiveJobs() {
         log.debug("Loading all active jobs");
-        List<JobPostingJpaEntity> entities = jobRepository.findActiveJobsWithTechStacks();
-        log.debug("Found {} active job entities", entities.size());
+        // 엔티티 없이 목록 컬럼만 읽고, 기술 스택은 본문과 조인하지 않고 따로 읽는다
+        List<JobListRow> rows = jobRepository.findActiveListRows();
+        Map<Long, List<JobTechStackRow>> techStacksByJob = jobRepository.findActiveTechStackRows().stream()
+                .collect(Collectors.groupingBy(JobTechStackRow::jobId));
+        log.debug("Found {} active jobs with {} tech stack links", rows.size(),
+                techStacksByJob.values().stream().mapToInt(List::size).sum());
         
-        return entities.stream()
-                .map(entity -> {
-                    log.debug("Job '{}' has {} tech stacks", entity.getTitle(), 
-                            entity.getJobTechStacks() != null ? entity.getJobTechStacks().size() : 0);
-                    Job job = jobMapper.toDomain(entity);
-                    log.debug("Mapped job '{}' has {} required and {} preferred tech stacks", 
-                            job.getTitle(), job.getRequiredTechStacks().size(), job.getPreferredTechStacks().size());
-                    return job;
-                })
+        return rows.stream()
+                .map(row -> jobMapper.toDomain(row, techStacksByJob.getOrDefault(row.id(), List.of())))
                 .collect(Collectors.toList());
     }
     
@@ -92,6 +121,169 @@ public class JobPersistenceAdapter implements LoadJobPort, SaveJobPort {
                 .map(jobMapper::toDomain);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, JobFingerprint> loadJobFingerprints(Collection<String> sourceUrls) {
+        if (sourceUrls.isEmpty()) {
+            return Map.of();
+        }
+        return jobRepository.findFingerprintRowsBySourceUrlIn(sourceUrls).stream()
+                .collect(Collectors.toMap(JobFingerprintRow::sourceUrl,
+                        row -> new JobFingerprint(row.id(), row.contentHash(), Boolean.TRUE.equals(row.isActive()))));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public SearchJobsResult searchJobs(SearchJobsCommand command) {
+        log.debug("Searching jobs in database: {}", command);
+        Specification<JobPostingJpaEntity> specification = toSpecification(command);
+        if (specification == null) {
+            return emptyResult(command);
+        }
+        
+        // 조건/정렬/페이징은 ID만 조회하고, 페이지 본문은 목록 프로젝션으로 읽는다
+        Sort sort = toSort(command);
+        String sortField = sort.iterator().next().getProperty();
+        SearchCursor after = SearchCursor.decode(command.cursor(), sortField);
+        List<Long> pageIds;
+        long totalElements;
+        boolean hasNext;
+        if (after == null) {
+            Page<Long> page = jobPostingRepository.searchJobIds(
+                    specification, PageRequest.of(command.page(), command.size(), sort));
+            pageIds = page.getContent();
+            totalElements = page.getTotalElements();
+            hasNext = page.hasNext();
+        } else {
+            // 커서 다음 위치부터 size+1건만 조회 (건너뛸 행을 읽지 않음)
+            Sort.Order primary = sort.iterator().next();
+            pageIds = jobPostingRepository.searchJobIdsAfter(
+                    specification.and(JobPostingSpecifications.after(
+                            primary.getProperty(), primary.isDescending(), after.dateKey(), after.id())),
+                    sort, command.size() + 1);
+            hasNext = pageIds.size() > command.size();
+            if (hasNext) {
+                pageIds = pageIds.subList(0, command.size());
+            }
+            totalElements = jobPostingRepository.count(specification);
+        }
+        
+        List<Job> jobs = loadListJobs(pageIds);
+        
+        String nextCursor = null;
+        if (hasNext && !jobs.isEmpty()) {
+            Job last = jobs.get(jobs.size() - 1);
+            LocalDateTime sortValue = sortValue(last, sortField);
+            nextCursor = new SearchCursor(sortField, Objects.toString(sortValue, null), last.getId()).encode();
+        }
+        
+        return new SearchJobsResult(
+                jobs,
+                totalElements,
+                (int) Math.ceil((double) totalElements / command.size()),
+                command.page(),
+                command.size(),
+                nextCursor,
+                Map.of()
+        );
+    }
+    
+    /**
+     * 검색 조건을 Specification으로 변환 (따옴표를 뺀 키워드가 비어 있으면 null)
+     */
+    private Specification<JobPostingJpaEntity> toSpecification(SearchJobsCommand command) {
+        Specification<JobPostingJpaEntity> specification = JobPostingSpecifications.isActive(
+                command.isActive() == null || command.isActive());
+        
+        if (command.companyIds() != null && !command.companyIds().isEmpty()) {
+            specification = specification.and(JobPostingSpecifications.companyIn(command.companyIds()));
+        }
+        if (command.techStackIds() != null && !command.techStackIds().isEmpty()) {
+            specification = specification.and(JobPostingSpecifications.techStackIn(command.techStackIds()));
+        }
+        if (command.experienceLevel() != null && !command.experienceLevel().isBlank()) {
+            specification = specification.and(JobPostingSpecifications.experienceCategoryIn(command.experienceLevel()));
+        }
+        if (command.jobType() != null && !command.jobType().isBlank()) {
+            specification = specification.and(JobPostingSpecifications.jobTypeIn(command.jobType()));
+        }
+        if (command.location() != null && !command.location().isBlank()) {
+            specification = specification.and(JobPostingSpecifications.locationMatches(command.location()));
+        }
+        if (command.keyword() != null && !command.keyword().isBlank()) {
+            // FULLTEXT 조건을 검색/카운트 쿼리에 그대로 넣어 일치하는 ID 전체를 읽지 않는다
+            String phrase = command.keyword().replace("\"", " ").trim();
+            if (phrase.isEmpty()) {
+                return null;
+            }
+            specification = specification.and(hasKeywordFullTextIndex()
+                    ? JobPostingSpecifications.keywordMatches(phrase)
+                    : JobPostingSpecifications.keywordContains(phrase));
+        }
+        return specification;
+    }
+    
+    /**
+     * V8 마이그레이션이 적용되지 않은 DB에서는 MATCH ... AGAINST가 1191 오류로 실패하므로 미리 확인한다.
+     * 인덱스가 없으면 LIKE 검색으로 대체하고 경고를 남긴다 (인덱스를 추가한 뒤에는 재시작해야 반영).
+     */
+    private boolean hasKeywordFullTextIndex() {
+        Boolean available = keywordFullTextIndex;
+        if (available == null) {
+            // V4(제목/본문)만 적용된 인덱스는 네 필드 검색에 쓸 수 없다
+            available = jobRepository.countKeywordFullTextIndexColumns() == 4;
+            if (!available) {
+                log.warn("FULLTEXT index ft_job_keyword over title, description, requirements, preferred is missing on " +
+                        "job_postings; database keyword search falls back to LIKE. Apply db/migration/V8__widen_job_keyword_fulltext_index.sql");
+            }
+            keywordFullTextIndex = available;
+        }
+        return available;
+    }
+    
+    /**
+     * 정렬 기준 변환 (relevance/matchScore는 DB에서 계산하지 않으므로 최신 등록순, 동순위는 ID로 고정)
+     * 인덱스 정렬과 같이 값이 없는 공고는 방향과 관계없이 마지막에 둔다.
+     */
+    private Sort toSort(SearchJobsCommand command) {
+        if (command.sortBy() == null || !SORT_PROPERTIES.contains(command.sortBy())) {
+            return Sort.by(Sort.Order.desc("postedAt").nullsLast(), Sort.Order.desc("id"));
+        }
+        Sort.Direction direction = "ASC".equalsIgnoreCase(command.sortDirection())
+                ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(new Sort.Order(direction, command.sortBy()).nullsLast(), new Sort.Order(direction, "id"));
+    }
+    
+    /**
+     * ID 순서대로 목록용 채용공고 조회
+     */
+    private List<Job> loadListJobs(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobListRow> rows = jobRepository.findListRowsByIdIn(jobIds).stream()
+                .collect(Collectors.toMap(JobListRow::id, Function.identity()));
+        Map<Long, List<JobTechStackRow>> techStacksByJob = jobRepository.findTechStackRowsByJobIdIn(jobIds).stream()
+                .collect(Collectors.groupingBy(JobTechStackRow::jobId));
+        return jobIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(row -> jobMapper.toDomain(row, techStacksByJob.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+    
+    private LocalDateTime sortValue(Job job, String property) {
+        return switch (property) {
+            case "expiresAt" -> job.getExpiresAt();
+            case "createdAt" -> job.getCreatedAt();
+            default -> job.getPostedAt();
+        };
+    }
+    
+    private SearchJobsResult emptyResult(SearchJobsCommand command) {
+        return new SearchJobsResult(List.of(), 0, 0, command.page(), command.size(), null, Map.of());
+    }
+    
     @Override
     public Job saveJob(Job job) {
         log.debug("Saving job: {} with {} required and {} preferred tech stacks", 
@@ -149,21 +341,49 @@ public class JobPersistenceAdapter implements LoadJobPort, SaveJobPort {
         return savedJob;
     }
     
+    @Override
+    public List<Job> saveJobs(List<Job> jobs) {
+        log.debug("Batch saving {} jobs", jobs.size());
+        return jobBatchJdbcWriter.insertJobs(jobs);
+    }
+    
     @Override
     public Job updateJob(Job job) {
         log.debug("Updating job: {}", job.getId());
-        
-        JobPostingJpaEntity existingEntity = jobRepository.findById(job.getId())
+        return updateJobs(List.of(job)).stream()
+                .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Job not found with id: " + job.getId()));
-        
-        jobMapper.updateEntity(existingEntity, job);
-        
-        // TechStack 연관관계 처리는 JobTechStackJpaEntity를 통해
-        // 별도로 처리해야 함 (Many-to-Many 관계)
-        // 현재는 일단 업데이트만 처리
-        
-        JobPostingJpaEntity saved = jobRepository.save(existingEntity);
-        return jobMapper.toDomain(saved);
+    }
+    
+    @Override
+    public List<Job> updateJobs(List<Job> jobs) {
+        log.debug("Batch updating {} jobs", jobs.size());
+        jobBatchJdbcWriter.updateJobs(jobs);
+        return loadListJobs(jobs.stream().map(Job::getId).toList());
+    }
+    
+    @Override
+    public List<Long> deactivateJobsNotIn(Long companyId, Collection<String> sourceUrls) {
+        Set<String> keep = Set.copyOf(sourceUrls);
+        List<Long> ids = jobRepository.findActiveFingerprintRowsByCompanyId(companyId).stream()
+                .filter(row -> !keep.contains(row.sourceUrl()))
+                .map(JobFingerprintRow::id)
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        for (int start = 0; start < ids.size(); start += DEACTIVATE_BATCH_SIZE) {
+            jobRepository.deactivateByIdIn(ids.subList(start, Math.min(start + DEACTIVATE_BATCH_SIZE, ids.size())), now);
+        }
+        log.debug("Deactivated {} jobs of company {} missing from the crawl", ids.size(), companyId);
+        return ids;
+    }
+    
+    @Override
+    public List<Long> deactivateExpiredJobs(LocalDateTime now, int limit) {
+        List<Long> ids = jobRepository.lockExpiredActiveIds(now, limit);
+        if (!ids.isEmpty()) {
+            jobRepository.deactivateByIdIn(ids, now);
+        }
+        return ids;
     }
     
     @Override
@@ -198,4 +418,24 @@ public class JobPersistenceAdapter implements LoadJobPort, SaveJobPort {
                         result -> ((Long) result[1]).intValue()
                 ));
     }
-}
\ No newline at end of file
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<ExperienceCategory, Integer> countActiveJobsByExperienceCategory() {
+        log.debug("Counting active jobs by experience category");
+        List<Object[]> results = jobPostingRepository.countActiveJobsByExperienceCategory();
+        
+        Map<ExperienceCategory, Integer> counts = new EnumMap<>(ExperienceCategory.class);
+        for (Object[] result : results) {
+            if (result[0] == null) {
+                continue;
+            }
+            try {
+                counts.merge(ExperienceCategory.valueOf(result[0].toString()), ((Number) result[1]).intValue(), Integer::sum);
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring unknown experience category: {}", result[0]);
+            }
+        }
+        return counts;
+    }
+}
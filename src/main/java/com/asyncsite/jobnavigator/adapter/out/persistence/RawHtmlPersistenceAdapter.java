@@ -0,0 +1,118 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence;
+
+import com.asyncsite.jobnavigator.adapter.out.persistence.repository.JobRawHtmlRepository;
+import com.asyncsite.jobnavigator.application.port.out.LoadRawHtmlPort;
+import com.asyncsite.jobnavigator.application.port.out.SaveRawHtmlPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채용공고 원본 HTML 영속성 어댑터 구현
+ * job_raw_html 테이블에 gzip으로 압축해 저장하고, 압축 전 내용의 SHA-256이 저장된 값과 같으면 다시 쓰지 않는다.
+ * 호출자의 트랜잭션(청크 트랜잭션)에서 실행된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RawHtmlPersistenceAdapter implements SaveRawHtmlPort, LoadRawHtmlPort {
+    
+    private static final int BATCH_SIZE = 500;
+    
+    private static final String UPSERT_SQL = "INSERT INTO job_raw_html " +
+            "(job_posting_id, content_hash, content, original_length, updated_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE content_hash = VALUES(content_hash), content = VALUES(content), " +
+            "original_length = VALUES(original_length), updated_at = VALUES(updated_at)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final JobRawHtmlRepository jobRawHtmlRepository;
+    
+    @Override
+    public int saveRawHtml(Map<Long, String> rawHtmlByJobId) {
+        if (rawHtmlByJobId.isEmpty()) {
+            return 0;
+        }
+        Map<Long, String> storedHashes = loadContentHashes(new ArrayList<>(rawHtmlByJobId.keySet()));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        rawHtmlByJobId.forEach((jobId, html) -> {
+            byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+            String contentHash = sha256(bytes);
+            if (!contentHash.equals(storedHashes.get(jobId))) {
+                rows.add(new Object[] {jobId, contentHash, gzip(bytes), bytes.length, now});
+            }
+        });
+        for (int start = 0; start < rows.size(); start += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows.subList(start, Math.min(start + BATCH_SIZE, rows.size())));
+        }
+        log.debug("Stored raw HTML for {} of {} jobs (rest unchanged)", rows.size(), rawHtmlByJobId.size());
+        return rows.size();
+    }
+    
+    @Override
+    public Optional<String> loadRawHtml(Long jobId) {
+        return jobRawHtmlRepository.findById(jobId)
+                .map(entity -> new String(gunzip(entity.getContent()), StandardCharsets.UTF_8));
+    }
+    
+    private Map<Long, String> loadContentHashes(List<Long> jobIds) {
+        Map<Long, String> hashes = new HashMap<>();
+        for (int start = 0; start < jobIds.size(); start += BATCH_SIZE) {
+            List<Long> chunk = jobIds.subList(start, Math.min(start + BATCH_SIZE, jobIds.size()));
+            String sql = "SELECT job_posting_id, content_hash FROM job_raw_html WHERE job_posting_id IN (" +
+                    String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.query(sql, rs -> {
+                hashes.put(rs.getLong(1), rs.getString(2));
+            }, chunk.toArray());
+        }
+        return hashes;
+    }
+    
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (OutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress raw HTML", e);
+        }
+        return compressed.toByteArray();
+    }
+    
+    private static byte[] gunzip(byte[] bytes) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress raw HTML", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence;
+
+import com.asyncsite.jobnavigator.domain.Company;
+import com.asyncsite.jobnavigator.domain.TechStack;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 회사/기술 스택 상주 사전 (이름 -> ID, ID -> 도메인 모델)
+ * 수백 건 규모의 참조 데이터라 전부 메모리에 두고, 수집 시 이름별 단건 조회와 매퍼의 지연 로딩을 대신한다.
+ * 기동 시 각 영속성 어댑터가 전체를 적재하고, 이후에는 생성/조회된 항목을 추가한다.
+ * 이름은 컬럼 collation(대소문자 무시)과 맞추기 위해 소문자로 비교한다.
+ */
+@Component
+@Slf4j
+public class ReferenceDataDictionary {
+
+    private final Map<Long, Company> companiesById = new ConcurrentHashMap<>();
+    private final Map<String, Long> companyIdsByName = new ConcurrentHashMap<>();
+    private final Map<Long, TechStack> techStacksById = new ConcurrentHashMap<>();
+    private final Map<String, Long> techStackIdsByName = new ConcurrentHashMap<>();
+    private final TransactionTemplate requiresNew;
+
+    public ReferenceDataDictionary(PlatformTransactionManager transactionManager) {
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Optional<Company> companyByName(String name) {
+        Long id = name != null ? companyIdsByName.get(key(name)) : null;
+        return id != null ? Optional.ofNullable(companiesById.get(id)) : Optional.empty();
+    }
+
+    public Optional<Company> company(Long id) {
+        return id != null ? Optional.ofNullable(companiesById.get(id)) : Optional.empty();
+    }
+
+    public void putCompany(Company company) {
+        if (company != null && company.getId() != null) {
+            companiesById.put(company.getId(), company);
+            companyIdsByName.put(key(company.getName()), company.getId());
+        }
+    }
+
+    public Optional<TechStack> techStackByName(String name) {
+        Long id = name != null ? techStackIdsByName.get(key(name)) : null;
+        return id != null ? Optional.ofNullable(techStacksById.get(id)) : Optional.empty();
+    }
+
+    public Optional<TechStack> techStack(Long id) {
+        return id != null ? Optional.ofNullable(techStacksById.get(id)) : Optional.empty();
+    }
+
+    public void putTechStack(TechStack techStack) {
+        if (techStack != null && techStack.getId() != null) {
+            techStacksById.put(techStack.getId(), techStack);
+            techStackIdsByName.put(key(techStack.getName()), techStack.getId());
+        }
+    }
+
+    /**
+     * 이름으로 조회하고 없으면 생성 (다른 요청/인스턴스와 동시에 생성하면 unique 제약 위반을 보고 다시 조회)
+     * 호출자 트랜잭션과 분리된 새 트랜잭션에서 실행해, 제약 위반이 호출자 트랜잭션을 롤백 전용으로 만들지 않고
+     * 방금 다른 트랜잭션이 커밋한 행도 보이게 한다. 생성된 항목은 호출자가 롤백해도 남는다.
+     */
+    <T> T getOrCreate(String name, Supplier<Optional<T>> finder, Supplier<T> creator) {
+        Optional<T> existing = requiresNew.execute(status -> finder.get());
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        try {
+            return requiresNew.execute(status -> creator.get());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Concurrent insert detected for {}, reloading", name);
+            return requiresNew.execute(status -> finder.get())
+                    .orElseThrow(() -> new IllegalStateException("Failed to get or create reference data: " + name, e));
+        }
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    int companyCount() {
+        return companiesById.size();
+    }
+
+    int techStackCount() {
+        return techStacksById.size();
+    }
+}
@@ -7,9 +7,13 @@ import com.asyncsite.jobnavigator.application.port.out.SaveTechStackPort;
 import com.asyncsite.jobnavigator.domain.TechStack;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,21 +29,64 @@ public class TechStackPersistenceAdapter implements LoadTechStackPort, SaveTechS
     
     private final TechStackJpaRepository techStackRepository;
     private final TechStackMapper techStackMapper;
+    private final ReferenceDataDictionary dictionary;
+    
+    /**
+     * 기동 시 전체 기술 스택을 상주 사전에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadDictionary() {
+        techStackRepository.findAll().stream()
+                .map(techStackMapper::toDomain)
+                .forEach(dictionary::putTechStack);
+        log.info("Loaded {} tech stacks into the reference dictionary", dictionary.techStackCount());
+    }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<TechStack> loadTechStack(Long techStackId) {
+        Optional<TechStack> cached = dictionary.techStack(techStackId);
+        if (cached.isPresent()) {
+            return cached;
+        }
         log.debug("Loading tech stack with id: {}", techStackId);
         return techStackRepository.findById(techStackId)
-                .map(techStackMapper::toDomain);
+                .map(techStackMapper::toDomain)
+                .map(this::remember);
     }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<TechStack> loadTechStackByName(String name) {
+        Optional<TechStack> cached = dictionary.techStackByName(name);
+        if (cached.isPresent()) {
+            return cached;
+        }
         log.debug("Loading tech stack with name: {}", name);
         return techStackRepository.findByName(name)
-                .map(techStackMapper::toDomain);
+                .map(techStackMapper::toDomain)
+                .map(this::remember);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<TechStack> loadTechStacksByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        List<TechStack> techStacks = new ArrayList<>(names.size());
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            dictionary.techStackByName(name).ifPresentOrElse(techStacks::add, () -> missing.add(name));
+        }
+        if (!missing.isEmpty()) {
+            techStackRepository.findByNameIn(missing).stream()
+                    .map(techStackMapper::toDomain)
+                    .map(this::remember)
+                    .forEach(techStacks::add);
+        }
+        return techStacks;
     }
     
     @Override
@@ -69,4 +116,20 @@ public class TechStackPersistenceAdapter implements LoadTechStackPort, SaveTechS
         
         return techStackMapper.toDomain(saved);
     }
-}
\ No newline at end of file
+    
+    @Override
+    public TechStack getOrCreateTechStack(TechStack techStack) {
+        return dictionary.techStackByName(techStack.getName()).orElseGet(() -> remember(dictionary.getOrCreate(
+                techStack.getName(),
+                () -> techStackRepository.findByName(techStack.getName()).map(techStackMapper::toDomain),
+                () -> {
+                    log.debug("Creating tech stack: {}", techStack.getName());
+                    return techStackMapper.toDomain(techStackRepository.saveAndFlush(techStackMapper.toEntity(techStack)));
+                })));
+    }
+    
+    private TechStack remember(TechStack techStack) {
+        dictionary.putTechStack(techStack);
+        return techStack;
+    }
+}
@@ -17,6 +17,9 @@ import java.util.List;
            @Index(name = "idx_active", columnList = "is_active"),
            @Index(name = "idx_posted", columnList = "posted_at DESC"),
            @Index(name = "idx_created", columnList = "created_at DESC"),
+           @Index(name = "idx_active_posted", columnList = "is_active, posted_at, id"),
+           @Index(name = "idx_active_expires", columnList = "is_active, expires_at, id"),
+           @Index(name = "idx_active_created", columnList = "is_active, created_at, id"),
            @Index(name = "idx_source_url", columnList = "source_url", unique = true)
        })
 @Getter
@@ -63,6 +66,9 @@ public class JobPostingJpaEntity {
     @Column(name = "source_url", nullable = false, unique = true, length = 1000)
     private String sourceUrl;
     
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;  // 변경 감지용 내용 해시 (SHA-256 hex)
+    
     @Column(name = "posted_at")
     private LocalDateTime postedAt;
     
@@ -73,9 +79,6 @@ public class JobPostingJpaEntity {
     @Builder.Default
     private Boolean isActive = true;
     
-    @Column(name = "raw_html", columnDefinition = "LONGTEXT")
-    private String rawHtml;
-    
     @Column(name = "crawled_at")
     @Builder.Default
     private LocalDateTime crawledAt = LocalDateTime.now();
@@ -0,0 +1,37 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채용공고 원본 HTML (gzip 압축)
+ * 검색이 훑는 job_postings 행을 작게 유지하기 위해 별도 테이블에 두고, 원본 보기에서만 읽는다.
+ */
+@Entity
+@Table(name = "job_raw_html")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobRawHtmlJpaEntity {
+    
+    @Id
+    @Column(name = "job_posting_id")
+    private Long jobPostingId;
+    
+    /** 압축 전 원본의 SHA-256 (같은 내용을 다시 수집하면 쓰지 않는다) */
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+    
+    @Column(name = "content", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] content;
+    
+    @Column(name = "original_length", nullable = false)
+    private Integer originalLength;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -3,6 +3,9 @@ package com.asyncsite.jobnavigator.adapter.out.persistence.mapper;
 import com.asyncsite.jobnavigator.adapter.out.persistence.entity.JobPostingJpaEntity;
 import com.asyncsite.jobnavigator.adapter.out.persistence.entity.JobTechStackJpaEntity;
 import com.asyncsite.jobnavigator.adapter.out.persistence.entity.TechStackJpaEntity;
+import com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobListRow;
+import com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobTechStackRow;
+import com.asyncsite.jobnavigator.domain.Company;
 import com.asyncsite.jobnavigator.domain.Job;
 import com.asyncsite.jobnavigator.domain.TechStack;
 import com.asyncsite.jobnavigator.domain.ExperienceCategory;
@@ -84,6 +87,58 @@ public class JobMapper {
         );
     }
     
+    /**
+     * 목록 프로젝션과 기술 스택 연결을 도메인 모델로 변환
+     */
+    public Job toDomain(JobListRow row, List<JobTechStackRow> techStackRows) {
+        Set<TechStack> requiredTechStacks = new HashSet<>();
+        Set<TechStack> preferredTechStacks = new HashSet<>();
+        for (JobTechStackRow techStackRow : techStackRows) {
+            TechStack techStack = TechStack.withId(
+                    techStackRow.techStackId(),
+                    techStackRow.name(),
+                    TechStack.Category.valueOf(techStackRow.category().name())
+            );
+            if (Boolean.TRUE.equals(techStackRow.isRequired())) {
+                requiredTechStacks.add(techStack);
+            } else {
+                preferredTechStacks.add(techStack);
+            }
+        }
+        
+        Company company = row.companyId() == null ? null : Company.withId(
+                row.companyId(),
+                row.companyName(),
+                row.companyNameEn(),
+                row.companyCareerPageUrl(),
+                row.companyLogoUrl(),
+                row.companyCreatedAt(),
+                row.companyUpdatedAt()
+        );
+        
+        return Job.fromEntity(
+                row.id(),
+                company,
+                row.title(),
+                row.description(),
+                row.requirements(),
+                row.preferred(),
+                row.jobType() != null ? Job.JobType.valueOf(row.jobType().name()) : null,
+                row.experienceRequirement(),
+                row.experienceCategory(),
+                row.location(),
+                row.sourceUrl(),
+                row.postedAt(),
+                row.expiresAt(),
+                row.isActive(),
+                requiredTechStacks,
+                preferredTechStacks,
+                row.crawledAt(),
+                row.createdAt(),
+                row.updatedAt()
+        );
+    }
+    
     /**
      * 도메인 모델을 JPA Entity로 변환
      */
@@ -127,12 +182,13 @@ public class JobMapper {
         }
         
         entity.setSourceUrl(domain.getSourceUrl());
+        entity.setContentHash(domain.contentHash());
         entity.setCompany(companyMapper.toEntity(domain.getCompany()));
         entity.setPostedAt(domain.getPostedAt());
         entity.setExpiresAt(domain.getExpiresAt());
         entity.setCrawledAt(domain.getCrawledAt());
         entity.setIsActive(domain.isActive());
-        // rawHtml은 도메인 모델에 없음
+        // 원본 HTML은 job_raw_html 테이블에 따로 저장 (RawHtmlPersistenceAdapter)
         
         // TechStack 관계 설정은 JobTechStackJpaEntity를 통해 별도로 처리해야 함
         // 이는 JobPersistenceAdapter에서 처리
@@ -1,22 +1,37 @@
 package com.asyncsite.jobnavigator.adapter.out.persistence.mapper;
 
+import com.asyncsite.jobnavigator.adapter.out.persistence.ReferenceDataDictionary;
 import com.asyncsite.jobnavigator.adapter.out.persistence.entity.TechStackJpaEntity;
 import com.asyncsite.jobnavigator.domain.TechStack;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
  * TechStack 도메인 모델과 JPA Entity 간 매핑
  */
 @Component
+@RequiredArgsConstructor
 public class TechStackMapper {
     
+    private final ReferenceDataDictionary dictionary;
+    
     /**
      * JPA Entity를 도메인 모델로 변환
+     * 지연 로딩 프록시는 초기화(추가 조회)하지 않고 상주 사전에서 찾는다.
      */
     public TechStack toDomain(TechStackJpaEntity entity) {
         if (entity == null) {
             return null;
         }
+        if (!Hibernate.isInitialized(entity)) {
+            Optional<TechStack> cached = dictionary.techStack(entity.getId());
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
         
         return TechStack.withId(
                 entity.getId(),
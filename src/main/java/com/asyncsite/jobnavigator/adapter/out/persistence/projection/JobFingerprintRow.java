@@ -0,0 +1,11 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence.projection;
+
+/**
+ * 원본 URL 기준 저장 상태 프로젝션 (일괄 upsert 변경 감지용)
+ */
+public record JobFingerprintRow(
+        String sourceUrl,
+        Long id,
+        String contentHash,
+        Boolean isActive
+) {}
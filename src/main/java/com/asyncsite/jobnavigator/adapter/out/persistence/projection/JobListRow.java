@@ -0,0 +1,36 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence.projection;
+
+import com.asyncsite.jobnavigator.adapter.out.persistence.entity.JobPostingJpaEntity;
+import com.asyncsite.jobnavigator.domain.ExperienceCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록/검색용 채용공고 프로젝션
+ * 엔티티 대신 필요한 컬럼만 읽으며 회사 정보는 같은 행에 포함한다.
+ */
+public record JobListRow(
+        Long id,
+        String title,
+        String description,
+        String requirements,
+        String preferred,
+        JobPostingJpaEntity.JobType jobType,
+        String experienceRequirement,
+        ExperienceCategory experienceCategory,
+        String location,
+        String sourceUrl,
+        LocalDateTime postedAt,
+        LocalDateTime expiresAt,
+        Boolean isActive,
+        LocalDateTime crawledAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long companyId,
+        String companyName,
+        String companyNameEn,
+        String companyCareerPageUrl,
+        String companyLogoUrl,
+        LocalDateTime companyCreatedAt,
+        LocalDateTime companyUpdatedAt
+) {}
@@ -0,0 +1,15 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence.projection;
+
+import com.asyncsite.jobnavigator.adapter.out.persistence.entity.TechStackJpaEntity;
+
+/**
+ * 채용공고-기술스택 연결 프로젝션
+ * 공고 본문과 조인하지 않고 따로 조회해 기술 스택 수만큼 본문 컬럼이 중복 전송되지 않게 한다.
+ */
+public record JobTechStackRow(
+        Long jobId,
+        Long techStackId,
+        String name,
+        TechStackJpaEntity.TechCategory category,
+        Boolean isRequired
+) {}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,11 @@ public interface CompanyJpaRepository extends JpaRepository<CompanyJpaEntity, Lo
      */
     Optional<CompanyJpaEntity> findByName(String name);
     
+    /**
+     * 여러 회사명으로 조회
+     */
+    List<CompanyJpaEntity> findByNameIn(Collection<String> names);
+    
     /**
      * 활성 채용공고가 있는 회사 조회
      */
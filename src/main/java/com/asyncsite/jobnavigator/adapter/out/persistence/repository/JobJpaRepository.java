@@ -1,11 +1,17 @@
 package com.asyncsite.jobnavigator.adapter.out.persistence.repository;
 
 import com.asyncsite.jobnavigator.adapter.out.persistence.entity.JobPostingJpaEntity;
+import com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobListRow;
+import com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobFingerprintRow;
+import com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobTechStackRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +21,20 @@ import java.util.Optional;
 @Repository
 public interface JobJpaRepository extends JpaRepository<JobPostingJpaEntity, Long> {
     
+    String LIST_ROW_SELECT = "SELECT new com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobListRow(" +
+           "j.id, j.title, j.description, j.requirements, j.preferred, j.jobType, " +
+           "j.experienceRequirement, j.experienceCategory, j.location, j.sourceUrl, " +
+           "j.postedAt, j.expiresAt, j.isActive, j.crawledAt, j.createdAt, j.updatedAt, " +
+           "c.id, c.name, c.nameEn, c.careerPageUrl, c.logoUrl, c.createdAt, c.updatedAt) " +
+           "FROM JobPostingJpaEntity j LEFT JOIN j.company c ";
+    
+    String TECH_STACK_ROW_SELECT = "SELECT new com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobTechStackRow(" +
+           "jts.jobPosting.id, ts.id, ts.name, ts.category, jts.isRequired) " +
+           "FROM JobTechStackJpaEntity jts JOIN jts.techStack ts ";
+    
+    String FINGERPRINT_ROW_SELECT = "SELECT new com.asyncsite.jobnavigator.adapter.out.persistence.projection.JobFingerprintRow(" +
+           "j.sourceUrl, j.id, j.contentHash, j.isActive) FROM JobPostingJpaEntity j ";
+    
     /**
      * 활성화된 채용공고 조회
      */
@@ -65,11 +85,64 @@ public interface JobJpaRepository extends JpaRepository<JobPostingJpaEntity, Lon
     List<JobPostingJpaEntity> findByTechStackIds(@Param("techStackIds") List<Long> techStackIds);
     
     /**
-     * 키워드로 채용공고 검색
+     * 활성화된 채용공고 목록 프로젝션
      */
-    @Query("SELECT j FROM JobPostingJpaEntity j " +
-           "WHERE j.isActive = true AND " +
-           "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<JobPostingJpaEntity> searchByKeyword(@Param("keyword") String keyword);
+    @Query(LIST_ROW_SELECT + "WHERE j.isActive = true")
+    List<JobListRow> findActiveListRows();
+    
+    /**
+     * 활성화된 채용공고의 기술 스택 연결
+     */
+    @Query(TECH_STACK_ROW_SELECT + "WHERE jts.jobPosting.isActive = true")
+    List<JobTechStackRow> findActiveTechStackRows();
+    
+    /**
+     * ID 목록으로 채용공고 목록 프로젝션 조회
+     */
+    @Query(LIST_ROW_SELECT + "WHERE j.id IN :ids")
+    List<JobListRow> findListRowsByIdIn(@Param("ids") List<Long> ids);
+    
+    /**
+     * ID 목록에 해당하는 채용공고의 기술 스택 연결
+     */
+    @Query(TECH_STACK_ROW_SELECT + "WHERE jts.jobPosting.id IN :ids")
+    List<JobTechStackRow> findTechStackRowsByJobIdIn(@Param("ids") List<Long> ids);
+    
+    /**
+     * 원본 URL 목록 중 이미 저장된 것의 ID, 내용 해시, 활성 상태 조회
+     */
+    @Query(FINGERPRINT_ROW_SELECT + "WHERE j.sourceUrl IN :sourceUrls")
+    List<JobFingerprintRow> findFingerprintRowsBySourceUrlIn(@Param("sourceUrls") Collection<String> sourceUrls);
+    
+    /**
+     * 회사의 활성 채용공고 원본 URL 조회 (전체 수집 후 비활성화 대상 선별용)
+     */
+    @Query(FINGERPRINT_ROW_SELECT + "WHERE j.company.id = :companyId AND j.isActive = true")
+    List<JobFingerprintRow> findActiveFingerprintRowsByCompanyId(@Param("companyId") Long companyId);
+    
+    /**
+     * 채용공고 일괄 비활성화
+     */
+    @Modifying
+    @Query("UPDATE JobPostingJpaEntity j SET j.isActive = false, j.updatedAt = :now WHERE j.id IN :ids")
+    int deactivateByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    /**
+     * 만료된 활성 채용공고 ID를 만료 시각 순으로 limit개 조회하고 비활성화할 때까지 행을 잠근다
+     * idx_active_expires 인덱스를 타며, 다른 인스턴스가 잠근 행은 건너뛴다 (SKIP LOCKED).
+     */
+    @Query(value = "SELECT j.id FROM job_postings j " +
+           "WHERE j.is_active = true AND j.expires_at < :now " +
+           "ORDER BY j.expires_at, j.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockExpiredActiveIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    /**
+     * 키워드 FULLTEXT 인덱스(ft_job_keyword, V4/V8 마이그레이션) 컬럼 수 (없으면 0)
+     * ddl-auto로는 생성되지 않아 수동 적용이 필요하다.
+     */
+    @Query(value = "SELECT COUNT(*) FROM information_schema.statistics " +
+           "WHERE table_schema = DATABASE() AND table_name = 'job_postings' AND index_name = 'ft_job_keyword'",
+           nativeQuery = true)
+    long countKeywordFullTextIndexColumns();
 }
\ No newline at end of file
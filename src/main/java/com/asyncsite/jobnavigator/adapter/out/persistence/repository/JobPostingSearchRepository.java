@@ -0,0 +1,26 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence.repository;
+
+import com.asyncsite.jobnavigator.adapter.out.persistence.entity.JobPostingJpaEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 채용공고 동적 검색 (ID만 조회)
+ * 페이지 대상 ID만 구하고 본문은 목록 프로젝션으로 따로 읽어 엔티티 전체 컬럼을 로딩하지 않는다.
+ */
+public interface JobPostingSearchRepository {
+
+    /**
+     * 검색 조건에 맞는 한 페이지의 ID와 전체 건수(별도 count 쿼리)
+     */
+    Page<Long> searchJobIds(Specification<JobPostingJpaEntity> specification, Pageable pageable);
+
+    /**
+     * 커서 조건이 포함된 검색 조건으로 앞에서부터 limit건의 ID (OFFSET/count 쿼리 없음)
+     */
+    List<Long> searchJobIdsAfter(Specification<JobPostingJpaEntity> specification, Sort sort, int limit);
+}
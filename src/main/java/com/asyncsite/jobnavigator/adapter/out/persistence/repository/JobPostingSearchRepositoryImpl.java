@@ -0,0 +1,82 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence.repository;
+
+import com.asyncsite.jobnavigator.adapter.out.persistence.entity.JobPostingJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+class JobPostingSearchRepositoryImpl implements JobPostingSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Long> searchJobIds(Specification<JobPostingJpaEntity> specification, Pageable pageable) {
+        List<Long> ids = selectIds(specification, pageable.getSort(), (int) pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(ids, pageable, () -> count(specification));
+    }
+
+    @Override
+    public List<Long> searchJobIdsAfter(Specification<JobPostingJpaEntity> specification, Sort sort, int limit) {
+        return selectIds(specification, sort, 0, limit);
+    }
+
+    private List<Long> selectIds(Specification<JobPostingJpaEntity> specification, Sort sort, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<JobPostingJpaEntity> root = query.from(JobPostingJpaEntity.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root.get("id")).orderBy(toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * MySQL에는 NULLS FIRST/LAST 구문이 없으므로 지정된 null 정렬은 (col IS NULL) 정렬을 앞에 붙여 표현한다.
+     */
+    private List<Order> toOrders(Sort sort, Root<JobPostingJpaEntity> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            if (order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                Expression<Integer> isNull = cb.<Integer>selectCase()
+                        .when(cb.isNull(root.get(order.getProperty())), 1)
+                        .otherwise(0);
+                orders.add(order.getNullHandling() == Sort.NullHandling.NULLS_LAST ? cb.asc(isNull) : cb.desc(isNull));
+            }
+            orders.addAll(QueryUtils.toOrders(Sort.by(order.nullsNative()), root, cb));
+        }
+        return orders;
+    }
+
+    private long count(Specification<JobPostingJpaEntity> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<JobPostingJpaEntity> root = query.from(JobPostingJpaEntity.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
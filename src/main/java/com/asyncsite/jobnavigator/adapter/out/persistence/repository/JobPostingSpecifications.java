@@ -0,0 +1,195 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence.repository;
+
+import com.asyncsite.jobnavigator.adapter.out.persistence.entity.JobPostingJpaEntity;
+import com.asyncsite.jobnavigator.adapter.out.persistence.entity.JobTechStackJpaEntity;
+import com.asyncsite.jobnavigator.domain.ExperienceCategory;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 채용공고 검색 조건 Specification
+ * 인메모리 인덱스와 같은 규칙을 따른다: 같은 조건 내 여러 값은 OR, 조건 사이는 AND
+ * 지역은 인덱스와 같은 구분자로 나눈 단어 단위로 일치시키고, 키워드는 인덱스와 같은 네 필드(제목/본문/자격요건/우대사항)를 검색한다.
+ * 키워드는 공백으로 나눈 단어가 모두 있어야 하는 점은 같지만, 인덱스의 형태소 처리(라틴 단어 뒤 조사 제거 등)는 없어
+ * 'Kotlin을'처럼 조사가 붙은 검색어는 인덱스보다 적게 일치할 수 있다.
+ */
+public final class JobPostingSpecifications {
+
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("\\s*,\\s*");
+    private static final Pattern LOCATION_SEPARATOR = Pattern.compile("[\\s/()\\[\\]·|,]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    /** LOCATION_SEPARATOR와 같은 구분자 (MySQL ICU 정규식) */
+    private static final String LOCATION_BOUNDARY = "[[:space:]/()\\[\\]·|,]";
+    private static final String[] KEYWORD_FIELDS = {"title", "description", "requirements", "preferred"};
+
+    private JobPostingSpecifications() {
+    }
+
+    public static Specification<JobPostingJpaEntity> isActive(boolean active) {
+        return (root, query, cb) -> cb.equal(root.get("isActive"), active);
+    }
+
+    /**
+     * 검색어의 단어가 모두 네 필드 중 어딘가에 있는 공고 (ngram FULLTEXT 인덱스, V8 마이그레이션)
+     * 단어마다 필수 구문(+"단어")으로 검색하며, ID 목록을 먼저 읽지 않고 검색 쿼리의 조건으로 실행된다.
+     * 큰따옴표는 호출 측에서 제거해야 한다.
+     */
+    public static Specification<JobPostingJpaEntity> keywordMatches(String keyword) {
+        String against = String.join(" ", keywordWords(keyword).stream().map(word -> "+\"" + word + "\"").toList());
+        return (root, query, cb) -> cb.greaterThan(
+                cb.function(MySqlSearchFunctionContributor.MATCH_AGAINST, Double.class,
+                        root.get("title"), root.get("description"), root.get("requirements"), root.get("preferred"),
+                        cb.literal(against)),
+                0.0);
+    }
+
+    /**
+     * 검색어의 단어가 모두 네 필드 중 어딘가에 포함된 공고 (FULLTEXT 인덱스가 없을 때의 대체 조건, 인덱스를 타지 않음)
+     */
+    public static Specification<JobPostingJpaEntity> keywordContains(String keyword) {
+        return (root, query, cb) -> {
+            List<Predicate> words = new ArrayList<>();
+            for (String word : keywordWords(keyword)) {
+                String pattern = "%" + escapeLike(word.toLowerCase(Locale.ROOT)) + "%";
+                List<Predicate> fields = new ArrayList<>();
+                for (String field : KEYWORD_FIELDS) {
+                    fields.add(cb.like(cb.lower(root.get(field)), pattern, '\\'));
+                }
+                words.add(cb.or(fields.toArray(Predicate[]::new)));
+            }
+            return cb.and(words.toArray(Predicate[]::new));
+        };
+    }
+
+    private static List<String> keywordWords(String keyword) {
+        return WHITESPACE.splitAsStream(keyword.trim()).filter(word -> !word.isEmpty()).toList();
+    }
+
+    /**
+     * 커서 (정렬 값, ID) 다음에 오는 공고 (keyset 페이지네이션)
+     * 인덱스 정렬과 같이 값이 없는 공고는 방향과 관계없이 마지막에 온다 (정렬은 NULLS LAST로 지정).
+     */
+    public static Specification<JobPostingJpaEntity> after(String property, boolean descending,
+                                                           LocalDateTime value, long id) {
+        return (root, query, cb) -> {
+            Path<LocalDateTime> sortPath = root.get(property);
+            Path<Long> idPath = root.get("id");
+            if (descending) {
+                if (value == null) {
+                    return cb.and(cb.isNull(sortPath), cb.lessThan(idPath, id));
+                }
+                return cb.or(cb.lessThan(sortPath, value),
+                             cb.and(cb.equal(sortPath, value), cb.lessThan(idPath, id)),
+                             cb.isNull(sortPath));
+            }
+            if (value == null) {
+                return cb.and(cb.isNull(sortPath), cb.greaterThan(idPath, id));
+            }
+            return cb.or(cb.greaterThan(sortPath, value),
+                         cb.and(cb.equal(sortPath, value), cb.greaterThan(idPath, id)),
+                         cb.isNull(sortPath));
+        };
+    }
+
+    public static Specification<JobPostingJpaEntity> companyIn(Collection<Long> companyIds) {
+        return (root, query, cb) -> root.get("company").get("id").in(companyIds);
+    }
+
+    /**
+     * 필수/우대 구분 없이 기술 스택 중 하나라도 가진 공고 (조인 대신 EXISTS로 중복 행 방지)
+     */
+    public static Specification<JobPostingJpaEntity> techStackIn(Collection<Long> techStackIds) {
+        return (root, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            var jobTechStack = subquery.from(JobTechStackJpaEntity.class);
+            subquery.select(cb.literal(1))
+                    .where(cb.equal(jobTechStack.get("jobPosting"), root),
+                           jobTechStack.get("techStack").get("id").in(techStackIds));
+            return cb.exists(subquery);
+        };
+    }
+
+    /**
+     * 쉼표로 구분된 경력 구분 (알 수 없는 값은 무시, 유효한 값이 없으면 결과 없음)
+     */
+    public static Specification<JobPostingJpaEntity> experienceCategoryIn(String experienceLevels) {
+        List<ExperienceCategory> categories = parseEnums(ExperienceCategory.class, experienceLevels);
+        return (root, query, cb) -> categories.isEmpty()
+                ? cb.disjunction()
+                : root.get("experienceCategory").in(categories);
+    }
+
+    /**
+     * 쉼표로 구분된 고용 형태 (알 수 없는 값은 무시, 유효한 값이 없으면 결과 없음)
+     */
+    public static Specification<JobPostingJpaEntity> jobTypeIn(String jobTypes) {
+        List<JobPostingJpaEntity.JobType> types = parseEnums(JobPostingJpaEntity.JobType.class, jobTypes);
+        return (root, query, cb) -> types.isEmpty()
+                ? cb.disjunction()
+                : root.get("jobType").in(types);
+    }
+
+    /**
+     * "서울, 판교"처럼 쉼표로 구분된 지역은 OR, 한 지역 안의 단어("서울 강남")는 모두 있어야 한다.
+     * 인덱스와 같이 구분자로 나눈 단어 단위로 일치시킨다 ("서울"은 "서울시"와 일치하지 않음).
+     */
+    public static Specification<JobPostingJpaEntity> locationMatches(String location) {
+        return (root, query, cb) -> {
+            List<Predicate> alternatives = new ArrayList<>();
+            for (String alternative : LIST_SEPARATOR.split(location.trim())) {
+                List<Predicate> terms = new ArrayList<>();
+                for (String term : LOCATION_SEPARATOR.split(alternative.toLowerCase(Locale.ROOT))) {
+                    if (!term.isEmpty()) {
+                        terms.add(cb.equal(cb.function(MySqlSearchFunctionContributor.REGEXP_LIKE, Integer.class,
+                                cb.lower(root.get("location")), cb.literal(locationTermPattern(term))), 1));
+                    }
+                }
+                if (!terms.isEmpty()) {
+                    alternatives.add(cb.and(terms.toArray(Predicate[]::new)));
+                }
+            }
+            return alternatives.isEmpty() ? cb.disjunction() : cb.or(alternatives.toArray(Predicate[]::new));
+        };
+    }
+
+    private static String locationTermPattern(String term) {
+        StringBuilder pattern = new StringBuilder("(^|").append(LOCATION_BOUNDARY).append(')');
+        term.codePoints().forEach(codePoint -> {
+            if (codePoint < 128 && !Character.isLetterOrDigit(codePoint)) {
+                pattern.append('\\');
+            }
+            pattern.appendCodePoint(codePoint);
+        });
+        return pattern.append('(').append(LOCATION_BOUNDARY).append("|$)").toString();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static <E extends Enum<E>> List<E> parseEnums(Class<E> type, String names) {
+        return Arrays.stream(LIST_SEPARATOR.split(names.trim()))
+                .map(name -> parseEnum(type, name))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name) {
+        try {
+            return Enum.valueOf(type, name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence.repository;
+
+import com.asyncsite.jobnavigator.adapter.out.persistence.entity.JobRawHtmlJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobRawHtmlRepository extends JpaRepository<JobRawHtmlJpaEntity, Long> {
+}
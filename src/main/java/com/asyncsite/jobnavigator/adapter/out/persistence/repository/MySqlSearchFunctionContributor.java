@@ -0,0 +1,36 @@
+package com.asyncsite.jobnavigator.adapter.out.persistence.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL 검색 함수 등록 (Criteria에서 MATCH ... AGAINST, REGEXP_LIKE 사용)
+ * META-INF/services의 ServiceLoader 설정으로 Hibernate가 기동 시 읽는다.
+ */
+public class MySqlSearchFunctionContributor implements FunctionContributor {
+
+    /**
+     * match_against(제목, 본문, 자격요건, 우대사항, 검색어) - BOOLEAN MODE 관련도 (일치하지 않으면 0)
+     * 컬럼 목록은 FULLTEXT 인덱스 ft_job_keyword(V8 마이그레이션)와 같아야 한다.
+     */
+    public static final String MATCH_AGAINST = "match_against";
+
+    /**
+     * regexp_like(값, 패턴) - 일치하면 1
+     */
+    public static final String REGEXP_LIKE = "regexp_like";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        var types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2, ?3, ?4) against (?5 in boolean mode)",
+                types.resolve(StandardBasicTypes.DOUBLE));
+        functionContributions.getFunctionRegistry().registerPattern(
+                REGEXP_LIKE,
+                "regexp_like(?1, ?2)",
+                types.resolve(StandardBasicTypes.INTEGER));
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,11 @@ public interface TechStackJpaRepository extends JpaRepository<TechStackJpaEntity
      */
     Optional<TechStackJpaEntity> findByName(String name);
     
+    /**
+     * 여러 이름으로 기술 스택 조회
+     */
+    List<TechStackJpaEntity> findByNameIn(Collection<String> names);
+    
     /**
      * 카테고리별 기술 스택 조회
      */
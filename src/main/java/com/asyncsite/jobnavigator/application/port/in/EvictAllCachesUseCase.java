@@ -1,5 +1,14 @@
 package com.asyncsite.jobnavigator.application.port.in;
 
 public interface EvictAllCachesUseCase {
-    void evictAllCaches();
+    EvictAllCachesResult evictAllCaches();
+    
+    /**
+     * 전체 캐시 삭제 결과
+     */
+    record EvictAllCachesResult(
+            long catalogVersion,
+            long evictedKeys,
+            long elapsedMillis
+    ) {}
 }
@@ -0,0 +1,16 @@
+package com.asyncsite.jobnavigator.application.port.in;
+
+import com.asyncsite.jobnavigator.adapter.in.web.dto.ExperienceCategoryWithCountResponse;
+import java.util.List;
+
+/**
+ * 경력 카테고리 조회 유스케이스
+ */
+public interface GetExperienceCategoriesUseCase {
+    
+    /**
+     * 경력 카테고리별 활성 채용공고 수를 포함한 목록 조회
+     * @return 모든 경력 카테고리와 채용공고 수 (공고가 없으면 0)
+     */
+    List<ExperienceCategoryWithCountResponse> getExperienceCategoriesWithJobCount();
+}
@@ -13,4 +13,11 @@ public interface GetJobDetailUseCase {
      * @return 채용공고 상세 정보
      */
     Job getJobDetail(Long jobId);
+    
+    /**
+     * 채용공고 원본 HTML 조회 (수집 시 받은 HTML, 원본 보기 전용)
+     * @param jobId 채용공고 ID
+     * @return 원본 HTML
+     */
+    String getJobRawHtml(Long jobId);
 }
\ No newline at end of file
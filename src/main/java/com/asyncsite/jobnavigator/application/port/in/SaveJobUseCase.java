@@ -12,6 +12,24 @@ public interface SaveJobUseCase {
      */
     Long saveJob(SaveJobCommand command);
     
+    /**
+     * 채용공고 일괄 저장
+     * 청크 단위 트랜잭션으로 저장하며, 실패한 항목은 배치 전체를 실패시키지 않고 항목별 상태로 반환한다.
+     * @param commands 저장할 채용공고 정보 목록
+     * @param options 저장 방식 (upsert 여부, 전체 수집 회사)
+     * @return 항목별 저장 결과 (입력 순서)
+     */
+    BatchSaveResult saveJobs(java.util.List<SaveJobCommand> commands, BatchSaveOptions options);
+    
+    /**
+     * 채용공고 스트리밍 일괄 저장
+     * 커맨드를 일정 개수씩 꺼내 저장하므로 요청 전체를 메모리에 올리지 않는다. 결과는 saveJobs와 같다.
+     * @param commands 저장할 채용공고 정보 (읽는 도중 IllegalArgumentException을 던지면 그때까지 저장한 공고는 유지)
+     * @param options 저장 방식 (upsert 여부, 전체 수집 회사)
+     * @return 항목별 저장 결과 (입력 순서)
+     */
+    BatchSaveResult saveJobStream(java.util.Iterator<SaveJobCommand> commands, BatchSaveOptions options);
+    
     /**
      * 채용공고 저장 커맨드
      */
@@ -33,4 +51,92 @@ public interface SaveJobUseCase {
         java.time.LocalDateTime expiresAt,
         String rawHtml
     ) {}
-}
\ No newline at end of file
+    
+    /**
+     * 일괄 저장 항목 상태
+     */
+    enum ItemStatus {
+        CREATED,    // 신규 저장
+        UPDATED,    // upsert: 내용이 바뀌어 기존 공고 갱신
+        UNCHANGED,  // upsert: 내용이 같아 저장 생략
+        DUPLICATE,  // 이미 저장된 source_url (또는 같은 요청 내 중복)
+        INVALID     // 검증 실패 또는 저장 오류
+    }
+    
+    /**
+     * 일괄 저장 방식
+     * @param upsert true면 이미 저장된 source_url은 중복 대신 내용 해시를 비교해 갱신하거나 건너뛴다
+     * @param fullCrawlCompany 이 회사의 전체 수집 결과임을 표시 (upsert 전용).
+     *                         요청에 없는 이 회사의 활성 공고는 비활성화한다.
+     */
+    record BatchSaveOptions(
+        boolean upsert,
+        String fullCrawlCompany
+    ) {
+        public static BatchSaveOptions insertOnly() {
+            return new BatchSaveOptions(false, null);
+        }
+    }
+    
+    /**
+     * 일괄 저장 항목 결과
+     * @param index 요청 목록에서의 위치
+     * @param jobId 저장된(또는 이미 존재하는) 채용공고 ID
+     * @param reason 실패 사유 (DUPLICATE, INVALID만)
+     */
+    record ItemResult(
+        int index,
+        String sourceUrl,
+        ItemStatus status,
+        Long jobId,
+        String reason
+    ) {
+        public static ItemResult created(int index, String sourceUrl, Long jobId) {
+            return new ItemResult(index, sourceUrl, ItemStatus.CREATED, jobId, null);
+        }
+        
+        public static ItemResult updated(int index, String sourceUrl, Long jobId) {
+            return new ItemResult(index, sourceUrl, ItemStatus.UPDATED, jobId, null);
+        }
+        
+        public static ItemResult unchanged(int index, String sourceUrl, Long jobId) {
+            return new ItemResult(index, sourceUrl, ItemStatus.UNCHANGED, jobId, null);
+        }
+        
+        public static ItemResult duplicate(int index, String sourceUrl, Long jobId, String reason) {
+            return new ItemResult(index, sourceUrl, ItemStatus.DUPLICATE, jobId, reason);
+        }
+        
+        public static ItemResult invalid(int index, String sourceUrl, String reason) {
+            return new ItemResult(index, sourceUrl, ItemStatus.INVALID, null, reason);
+        }
+    }
+    
+    /**
+     * 일괄 저장 결과
+     * @param deactivatedJobIds 전체 수집에서 빠져 비활성화된 채용공고 ID 목록
+     */
+    record BatchSaveResult(java.util.List<ItemResult> items, java.util.List<Long> deactivatedJobIds, long elapsedMillis) {
+        
+        public long count(ItemStatus status) {
+            return items.stream().filter(item -> item.status() == status).count();
+        }
+        
+        /**
+         * 처리량 (초당 처리 항목 수)
+         */
+        public double itemsPerSecond() {
+            return elapsedMillis > 0 ? items.size() * 1000.0 / elapsedMillis : items.size();
+        }
+        
+        /**
+         * 신규 저장된 채용공고 ID 목록 (입력 순서)
+         */
+        public java.util.List<Long> createdJobIds() {
+            return items.stream()
+                    .filter(item -> item.status() == ItemStatus.CREATED)
+                    .map(ItemResult::jobId)
+                    .toList();
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.asyncsite.jobnavigator.application.port.in;
 
 import com.asyncsite.jobnavigator.domain.Job;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 채용공고 검색 유스케이스
@@ -15,6 +20,13 @@ public interface SearchJobsUseCase {
      */
     SearchJobsResult searchJobs(SearchJobsCommand command);
     
+    /**
+     * 기록된 검색 조건 재실행 (예열용, 검색 빈도를 기록하지 않고 캐시만 채움)
+     * @param command 검색 조건
+     * @return 검색 결과
+     */
+    SearchJobsResult replaySearch(SearchJobsCommand command);
+    
     /**
      * 검색 조건 커맨드
      */
@@ -29,8 +41,19 @@ public interface SearchJobsUseCase {
         int page,
         int size,
         String sortBy,
-        String sortDirection
-    ) {}
+        String sortDirection,
+        String cursor,
+        List<Long> userTechStackIds  // 매칭 점수 계산용 사용자 보유 기술 스택 (필터 아님)
+    ) {
+        
+        /**
+         * 사용자별 값을 뺀 검색 조건 (검색 빈도 기록용)
+         */
+        public SearchJobsCommand withoutUserTechStacks() {
+            return new SearchJobsCommand(keyword, companyIds, techStackIds, experienceLevel, jobType,
+                    location, isActive, page, size, sortBy, sortDirection, cursor, null);
+        }
+    }
     
     /**
      * 검색 결과
@@ -40,6 +63,97 @@ public interface SearchJobsUseCase {
         long totalElements,
         int totalPages,
         int currentPage,
-        int pageSize
-    ) {}
+        int pageSize,
+        String nextCursor,
+        Map<Long, Double> matchScores  // 채용공고 ID -> 매칭 점수 (0.0 ~ 1.0, 사용자 기술 스택이 없으면 비어 있음)
+    ) {
+        
+        public SearchJobsResult withMatchScores(Map<Long, Double> matchScores) {
+            return new SearchJobsResult(jobs, totalElements, totalPages, currentPage, pageSize, nextCursor, matchScores);
+        }
+    }
+    
+    /**
+     * 커서 페이지네이션 위치 (마지막으로 반환한 공고의 정렬 기준, 정렬 키와 ID)
+     * 정렬 기준은 실제로 적용된 정렬(relevance, matchScore 또는 날짜 필드명)로, 정렬 키의 형식(점수/날짜)을 결정한다.
+     * 정렬 키는 정렬 기준 값의 문자열 표현이며, 값이 없는 공고는 null
+     */
+    record SearchCursor(
+        String sortField,
+        String sortKey,
+        long id
+    ) {
+        private static final String INVALID_CURSOR = "유효하지 않은 커서입니다.";
+        private static final String SORT_MISMATCH_CURSOR = "커서의 정렬 기준이 요청한 정렬 기준과 다릅니다. 첫 페이지부터 다시 조회해 주세요.";
+        
+        /**
+         * 응답에 내려줄 불투명 커서 문자열
+         */
+        public String encode() {
+            String raw = sortField + "|" + (sortKey != null ? sortKey : "") + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        /**
+         * 커서 문자열 해석 (비어 있으면 null)
+         * 정렬 기준이 없는 이전 형식 커서는 sortField가 null이다.
+         * @throws IllegalArgumentException 형식이 잘못된 경우
+         */
+        public static SearchCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+                int last = raw.lastIndexOf('|');
+                if (last < 0) {
+                    throw new IllegalArgumentException(INVALID_CURSOR);
+                }
+                int first = raw.indexOf('|');
+                String sortField = first < last ? raw.substring(0, first) : null;
+                int keyStart = first < last ? first + 1 : 0;
+                String sortKey = last > keyStart ? raw.substring(keyStart, last) : null;
+                return new SearchCursor(sortField, sortKey, Long.parseLong(raw.substring(last + 1)));
+            } catch (IllegalArgumentException e) {
+                // NumberFormatException, 잘못된 Base64 포함
+                throw new IllegalArgumentException(INVALID_CURSOR, e);
+            }
+        }
+        
+        /**
+         * 커서 문자열을 해석하고 현재 적용되는 정렬 기준으로 만든 커서인지 확인 (비어 있으면 null)
+         * 검색 엔진(인덱스/DB)이 바뀌었거나 다른 상태의 인스턴스에서 받은 커서는 정렬 키 형식이 달라 이어갈 수 없다.
+         * @param sortField 이번 검색에 실제로 적용되는 정렬 기준
+         * @throws IllegalArgumentException 형식이 잘못되었거나 정렬 기준이 다른 경우
+         */
+        public static SearchCursor decode(String cursor, String sortField) {
+            SearchCursor decoded = decode(cursor);
+            if (decoded != null && !sortField.equals(decoded.sortField())) {
+                throw new IllegalArgumentException(SORT_MISMATCH_CURSOR);
+            }
+            return decoded;
+        }
+        
+        /**
+         * 날짜 정렬 키
+         */
+        public LocalDateTime dateKey() {
+            try {
+                return sortKey != null ? LocalDateTime.parse(sortKey) : null;
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(INVALID_CURSOR, e);
+            }
+        }
+        
+        /**
+         * 관련도 점수 정렬 키
+         */
+        public float scoreKey() {
+            try {
+                return Float.parseFloat(sortKey);
+            } catch (NullPointerException | NumberFormatException e) {
+                throw new IllegalArgumentException(INVALID_CURSOR, e);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.asyncsite.jobnavigator.application.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 캐시 적재용 인스턴스 간 잠금 포트
+ * 같은 키를 여러 인스턴스가 동시에 계산하지 않도록 한 곳만 적재하게 한다.
+ */
+public interface CacheLockPort {
+    
+    /**
+     * 잠금 획득 시도 (대기하지 않음)
+     * @param key 잠금 키
+     * @param ttl 잠금 만료 시간 (보유자가 해제하지 못해도 이후 자동 해제)
+     * @return 획득 시 해제용 토큰 (다른 곳이 보유 중이면 empty)
+     */
+    Optional<String> tryLock(String key, Duration ttl);
+    
+    /**
+     * 잠금 해제 (토큰이 일치할 때만)
+     * @param key 잠금 키
+     * @param token tryLock이 반환한 토큰
+     */
+    void unlock(String key, String token);
+}
@@ -1,40 +1,73 @@
 package com.asyncsite.jobnavigator.application.port.out;
 
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsResult;
 import com.asyncsite.jobnavigator.domain.Job;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * 채용공고 캐싱 포트
+ * 캐시 키에 카탈로그 버전을 포함해, 채용공고가 변경되면 버전만 올려 이전 항목을 한 번에 무효화한다.
  */
 public interface JobCachePort {
     
+    /**
+     * 현재 카탈로그 버전 조회
+     * @return 카탈로그 버전
+     */
+    long getCatalogVersion();
+    
+    /**
+     * 카탈로그 버전 증가 (이전 버전으로 저장된 캐시는 더 이상 조회되지 않음)
+     * @return 증가된 카탈로그 버전
+     */
+    long bumpCatalogVersion();
+    
     /**
      * 캐시에서 채용공고 조회
+     * @param catalogVersion 카탈로그 버전
      * @param jobId 채용공고 ID
      * @return 캐시된 채용공고 (없으면 empty)
      */
-    Optional<Job> getCachedJob(Long jobId);
+    Optional<Job> getCachedJob(long catalogVersion, Long jobId);
     
     /**
      * 채용공고 캐싱
+     * @param catalogVersion 조회 시작 시점의 카탈로그 버전
      * @param job 캐싱할 채용공고
      */
-    void cacheJob(Job job);
+    void cacheJob(long catalogVersion, Job job);
+    
+    /**
+     * 캐시에서 여러 채용공고를 한 번에 조회
+     * @param catalogVersion 카탈로그 버전
+     * @param jobIds 채용공고 ID 목록
+     * @return 캐시에 있는 채용공고 (ID -> 채용공고)
+     */
+    Map<Long, Job> getCachedJobs(long catalogVersion, List<Long> jobIds);
     
     /**
-     * 검색 결과 캐싱
-     * @param cacheKey 캐시 키
+     * 여러 채용공고를 한 번에 캐싱
+     * @param catalogVersion 조회 시작 시점의 카탈로그 버전
      * @param jobs 캐싱할 채용공고 목록
      */
-    void cacheSearchResult(String cacheKey, List<Job> jobs);
+    void cacheJobs(long catalogVersion, List<Job> jobs);
     
     /**
-     * 캐시된 검색 결과 조회
-     * @param cacheKey 캐시 키
-     * @return 캐시된 채용공고 목록 (없으면 empty)
+     * 검색 결과 캐싱 (검색 캐시에는 ID 순서만 저장, 공고 본문은 상세 캐시에 쓰지 않음)
+     * @param catalogVersion 조회 시작 시점의 카탈로그 버전
+     * @param cacheKey 캐시 키 (카탈로그 버전 포함)
+     * @param result 캐싱할 검색 결과 페이지
      */
-    Optional<List<Job>> getCachedSearchResult(String cacheKey);
+    void cacheSearchResult(long catalogVersion, String cacheKey, SearchJobsResult result);
+    
+    /**
+     * 캐시된 검색 결과 페이지 조회
+     * @param cacheKey 캐시 키 (카탈로그 버전 포함)
+     * @return 캐시된 페이지의 공고 ID 목록과 페이지 정보 (hard TTL이 지나 없으면 empty)
+     */
+    Optional<CachedSearchPage> getCachedSearchPage(String cacheKey);
     
     /**
      * 캐시 무효화
@@ -42,8 +75,30 @@ public interface JobCachePort {
      */
     void evictJob(Long jobId);
     
+    /**
+     * 여러 채용공고 상세 캐시 무효화 (카탈로그 버전은 올리지 않음)
+     * @param jobIds 무효화할 채용공고 ID 목록
+     */
+    void evictJobs(List<Long> jobIds);
+    
     /**
      * 전체 캐시 무효화
+     * @return 삭제된 키 수
+     */
+    long evictAll();
+    
+    /**
+     * 캐시된 검색 결과 페이지
+     * @param jobIds 페이지의 채용공고 ID (정렬 순서)
+     * @param stale soft TTL이 지나 갱신이 필요한지 여부
      */
-    void evictAll();
-}
\ No newline at end of file
+    record CachedSearchPage(
+            List<Long> jobIds,
+            long totalElements,
+            int totalPages,
+            int currentPage,
+            int pageSize,
+            String nextCursor,
+            boolean stale
+    ) {}
+}
@@ -0,0 +1,85 @@
+package com.asyncsite.jobnavigator.application.port.out;
+
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsCommand;
+import com.asyncsite.jobnavigator.domain.ExperienceCategory;
+import com.asyncsite.jobnavigator.domain.Job;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 채용공고 검색 인덱스 포트
+ */
+public interface JobIndexPort {
+
+    /**
+     * 인덱스가 구성되어 검색 가능한 상태인지 확인
+     * @return 검색 가능 여부
+     */
+    boolean isReady();
+
+    /**
+     * 활성 채용공고 목록으로 인덱스 전체 재구성
+     * 목록을 읽는 동안 들어온 색인 변경은 재구성된 인덱스에 다시 반영된다.
+     * @param jobsLoader 활성 채용공고 목록 로더
+     */
+    void rebuild(Supplier<List<Job>> jobsLoader);
+
+    /**
+     * 채용공고 색인 (동일 ID가 이미 있으면 교체)
+     * @param job 색인할 채용공고
+     */
+    void index(Job job);
+
+    /**
+     * 인덱스에서 채용공고 제거
+     * @param jobId 제거할 채용공고 ID
+     */
+    void remove(Long jobId);
+
+    /**
+     * 모든 인스턴스의 인덱스에서 채용공고 제거 (비활성화된 공고용)
+     * 이 인스턴스는 바로 제거하고, 다른 인스턴스에는 메시지로 알려 다음 재구성을 기다리지 않게 한다.
+     * @param jobIds 제거할 채용공고 ID 목록
+     */
+    void removeEverywhere(List<Long> jobIds);
+
+    /**
+     * 검색 조건에 맞는 채용공고 중 요청 페이지에 해당하는 ID 조회
+     * 커서가 있으면 페이지 번호 대신 커서 다음 위치부터 조회한다.
+     * @param command 검색 조건
+     * @return 페이지 ID 목록, 전체 결과 수, 다음 페이지 커서
+     */
+    IndexSearchResult search(SearchJobsCommand command);
+
+    /**
+     * ID 목록 순서대로 색인된 채용공고 조회 (인덱스에 없는 ID는 제외)
+     * @param jobIds 채용공고 ID 목록
+     * @return 채용공고 목록
+     */
+    List<Job> loadJobs(List<Long> jobIds);
+
+    /**
+     * 색인된 활성 채용공고의 facet 값별 개수
+     * @return 회사/기술 스택/경력 카테고리별 채용공고 수
+     */
+    FacetCounts facetCounts();
+
+    /**
+     * 인덱스 검색 결과
+     */
+    record IndexSearchResult(
+        List<Long> jobIds,
+        long totalElements,
+        String nextCursor
+    ) {}
+
+    /**
+     * facet 값별 채용공고 수 (공고가 없는 값은 포함하지 않음)
+     */
+    record FacetCounts(
+        Map<Long, Integer> byCompany,
+        Map<Long, Integer> byTechStack,
+        Map<ExperienceCategory, Integer> byExperienceCategory
+    ) {}
+}
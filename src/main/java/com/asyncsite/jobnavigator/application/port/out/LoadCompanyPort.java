@@ -1,6 +1,7 @@
 package com.asyncsite.jobnavigator.application.port.out;
 
 import com.asyncsite.jobnavigator.domain.Company;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,13 @@ public interface LoadCompanyPort {
      */
     Optional<Company> loadCompanyByName(String name);
     
+    /**
+     * 여러 이름으로 회사 일괄 조회
+     * @param names 회사명 목록
+     * @return 존재하는 회사 목록
+     */
+    List<Company> loadCompaniesByNames(Collection<String> names);
+    
     /**
      * 모든 회사 조회
      * @return 회사 목록
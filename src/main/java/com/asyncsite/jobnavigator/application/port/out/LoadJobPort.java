@@ -1,6 +1,8 @@
 package com.asyncsite.jobnavigator.application.port.out;
 
+import com.asyncsite.jobnavigator.domain.ExperienceCategory;
 import com.asyncsite.jobnavigator.domain.Job;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,6 +19,13 @@ public interface LoadJobPort {
      */
     Optional<Job> loadJob(Long jobId);
     
+    /**
+     * ID 목록으로 채용공고 조회
+     * @param jobIds 채용공고 ID 목록
+     * @return 채용공고 목록 (ID 목록 순서, 없는 ID는 제외)
+     */
+    List<Job> loadJobs(List<Long> jobIds);
+    
     /**
      * 활성화된 모든 채용공고 조회
      * @return 활성 채용공고 목록
@@ -44,6 +53,13 @@ public interface LoadJobPort {
      */
     Optional<Job> loadJobBySourceUrl(String sourceUrl);
     
+    /**
+     * 여러 URL에 해당하는 채용공고의 저장 상태 일괄 조회
+     * @param sourceUrls 원본 URL 목록
+     * @return 원본 URL -> 저장 상태 맵 (존재하는 것만)
+     */
+    Map<String, JobFingerprint> loadJobFingerprints(Collection<String> sourceUrls);
+    
     /**
      * 활성 채용공고 개수 조회
      * @return 활성 채용공고 개수
@@ -61,4 +77,20 @@ public interface LoadJobPort {
      * @return 기술스택ID -> 채용공고 수 맵
      */
     Map<Long, Integer> countActiveJobsByTechStack();
-}
\ No newline at end of file
+    
+    /**
+     * 경력 카테고리별 활성 채용공고 수 조회
+     * @return 경력 카테고리 -> 채용공고 수 맵 (카테고리가 없는 공고는 제외)
+     */
+    Map<ExperienceCategory, Integer> countActiveJobsByExperienceCategory();
+    
+    /**
+     * 원본 URL 기준 저장 상태 (변경 감지용)
+     * @param contentHash 저장된 내용 해시 (해시 도입 전에 저장된 공고는 null)
+     */
+    record JobFingerprint(
+            Long id,
+            String contentHash,
+            boolean active
+    ) {}
+}
@@ -0,0 +1,16 @@
+package com.asyncsite.jobnavigator.application.port.out;
+
+import java.util.Optional;
+
+/**
+ * 채용공고 원본 HTML 조회 포트
+ */
+public interface LoadRawHtmlPort {
+    
+    /**
+     * 채용공고의 원본 HTML 조회
+     * @param jobId 채용공고 ID
+     * @return 원본 HTML (수집 시 받지 못했으면 empty)
+     */
+    Optional<String> loadRawHtml(Long jobId);
+}
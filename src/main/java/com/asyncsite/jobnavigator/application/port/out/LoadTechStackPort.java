@@ -1,6 +1,7 @@
 package com.asyncsite.jobnavigator.application.port.out;
 
 import com.asyncsite.jobnavigator.domain.TechStack;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,13 @@ public interface LoadTechStackPort {
      */
     Optional<TechStack> loadTechStackByName(String name);
     
+    /**
+     * 여러 이름으로 기술 스택 일괄 조회
+     * @param names 기술 스택명 목록
+     * @return 존재하는 기술 스택 목록
+     */
+    List<TechStack> loadTechStacksByNames(Collection<String> names);
+    
     /**
      * 모든 기술 스택 조회
      * @return 기술 스택 목록
@@ -13,4 +13,12 @@ public interface SaveCompanyPort {
      * @return 저장된 회사
      */
     Company saveCompany(Company company);
+    
+    /**
+     * 같은 이름의 회사가 있으면 반환하고 없으면 저장 (동시 생성에도 하나만 생성)
+     * 생성은 호출자 트랜잭션과 별도로 커밋된다.
+     * @param company 없을 때 저장할 회사
+     * @return 기존 또는 저장된 회사
+     */
+    Company getOrCreateCompany(Company company);
 }
\ No newline at end of file
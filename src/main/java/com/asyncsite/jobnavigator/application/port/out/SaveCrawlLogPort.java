@@ -0,0 +1,37 @@
+package com.asyncsite.jobnavigator.application.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집 이력 저장 포트
+ */
+public interface SaveCrawlLogPort {
+    
+    /**
+     * 회사별 수집 결과 기록
+     * @param entry 수집 결과
+     */
+    void saveCrawlLog(CrawlLogEntry entry);
+    
+    /**
+     * 회사별 수집 결과
+     * @param jobsFound 요청에 포함된 공고 수
+     * @param jobsCreated 신규 저장된 공고 수
+     * @param jobsUpdated 내용이 바뀌어 갱신된 공고 수
+     * @param errorMessage 실패 항목 사유 요약 (없으면 null)
+     */
+    record CrawlLogEntry(
+            Long companyId,
+            CrawlStatus status,
+            int jobsFound,
+            int jobsCreated,
+            int jobsUpdated,
+            String errorMessage,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt
+    ) {}
+    
+    enum CrawlStatus {
+        SUCCESS, FAILED, PARTIAL
+    }
+}
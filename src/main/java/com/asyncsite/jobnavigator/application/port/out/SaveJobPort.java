@@ -1,6 +1,9 @@
 package com.asyncsite.jobnavigator.application.port.out;
 
 import com.asyncsite.jobnavigator.domain.Job;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 채용공고 저장 포트
@@ -14,6 +17,38 @@ public interface SaveJobPort {
      */
     Job saveJob(Job job);
     
+    /**
+     * 신규 채용공고 일괄 저장 (기술 스택 연결 포함)
+     * 회사와 기술 스택은 이미 저장되어 ID가 있어야 한다.
+     * @param jobs 저장할 채용공고 목록
+     * @return ID가 부여된 채용공고 목록 (입력 순서)
+     */
+    List<Job> saveJobs(List<Job> jobs);
+    
+    /**
+     * 기존 채용공고 일괄 갱신
+     * 기술 스택 연결은 전체를 다시 쓰지 않고 추가/삭제/필수 여부 변경분만 반영한다.
+     * @param jobs ID가 있는 채용공고 목록
+     * @return 갱신된 채용공고 목록 (입력 순서)
+     */
+    List<Job> updateJobs(List<Job> jobs);
+    
+    /**
+     * 회사의 활성 채용공고 중 주어진 URL 목록에 없는 것을 일괄 비활성화
+     * @param companyId 회사 ID
+     * @param sourceUrls 유지할 원본 URL 목록 (전체 수집 결과)
+     * @return 비활성화된 채용공고 ID 목록
+     */
+    List<Long> deactivateJobsNotIn(Long companyId, Collection<String> sourceUrls);
+    
+    /**
+     * 만료된 활성 채용공고를 만료 시각 순으로 최대 limit건 비활성화
+     * @param now 기준 시각 (이 시각 이전에 만료된 공고가 대상)
+     * @param limit 한 번에 비활성화할 최대 건수 (잠금 시간 제한)
+     * @return 비활성화된 채용공고 ID 목록
+     */
+    List<Long> deactivateExpiredJobs(LocalDateTime now, int limit);
+    
     /**
      * 채용공고 업데이트
      * @param job 업데이트할 채용공고
@@ -0,0 +1,16 @@
+package com.asyncsite.jobnavigator.application.port.out;
+
+import java.util.Map;
+
+/**
+ * 채용공고 원본 HTML 저장 포트
+ */
+public interface SaveRawHtmlPort {
+    
+    /**
+     * 채용공고별 원본 HTML 저장 (저장된 내용과 같으면 쓰지 않음)
+     * @param rawHtmlByJobId 채용공고 ID -> 원본 HTML
+     * @return 실제로 쓴 건수
+     */
+    int saveRawHtml(Map<Long, String> rawHtmlByJobId);
+}
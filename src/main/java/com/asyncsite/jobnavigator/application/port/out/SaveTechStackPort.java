@@ -13,4 +13,12 @@ public interface SaveTechStackPort {
      * @return 저장된 기술 스택
      */
     TechStack saveTechStack(TechStack techStack);
+    
+    /**
+     * 같은 이름의 기술 스택이 있으면 반환하고 없으면 저장 (동시 생성에도 하나만 생성)
+     * 생성은 호출자 트랜잭션과 별도로 커밋된다.
+     * @param techStack 없을 때 저장할 기술 스택
+     * @return 기존 또는 저장된 기술 스택
+     */
+    TechStack getOrCreateTechStack(TechStack techStack);
 }
\ No newline at end of file
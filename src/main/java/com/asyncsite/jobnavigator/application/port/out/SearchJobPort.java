@@ -0,0 +1,18 @@
+package com.asyncsite.jobnavigator.application.port.out;
+
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsCommand;
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsResult;
+
+/**
+ * DB 기반 채용공고 검색 포트
+ * 인메모리 인덱스를 쓸 수 없을 때의 검색 엔진으로, 필터링과 페이징을 DB에서 수행한다.
+ */
+public interface SearchJobPort {
+
+    /**
+     * 검색 조건에 맞는 채용공고 한 페이지 조회
+     * @param command 검색 조건
+     * @return 요청 페이지와 전체 결과 수
+     */
+    SearchJobsResult searchJobs(SearchJobsCommand command);
+}
@@ -0,0 +1,23 @@
+package com.asyncsite.jobnavigator.application.port.out;
+
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsCommand;
+import java.util.List;
+
+/**
+ * 자주 요청되는 검색 조건 기록 포트 (시작 시 캐시 예열에 사용)
+ */
+public interface SearchQueryLogPort {
+    
+    /**
+     * 검색 조건 1회 기록
+     * @param command 검색 조건 (커서 제외)
+     */
+    void record(SearchJobsCommand command);
+    
+    /**
+     * 많이 요청된 순서로 검색 조건 조회
+     * @param limit 최대 개수
+     * @return 검색 조건 목록
+     */
+    List<SearchJobsCommand> loadTopQueries(int limit);
+}
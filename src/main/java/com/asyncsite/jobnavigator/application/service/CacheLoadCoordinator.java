@@ -0,0 +1,208 @@
+package com.asyncsite.jobnavigator.application.service;
+
+import com.asyncsite.jobnavigator.application.port.out.CacheLockPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 적재 단일화 (single-flight)
+ * 같은 키의 동시 미스는 인스턴스 내에서 하나만 적재하고 나머지는 그 결과를 기다린다.
+ * 분산 잠금을 켜면 인스턴스 간에도 한 곳만 적재하고, 나머지는 캐시에 결과가 생길 때까지 잠시 기다린다.
+ * soft TTL이 지난 항목은 동시 실행 수가 제한된 가상 스레드에서 백그라운드로 갱신한다.
+ */
+@Service
+@Slf4j
+public class CacheLoadCoordinator {
+
+    private static final Duration LOCK_POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final CacheLockPort cacheLockPort;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderLoads;
+    private final Counter coalescedWaiters;
+    private final Counter lockWaits;
+    private final Counter refreshes;
+    private final Counter refreshesSkipped;
+    private final ExecutorService refreshExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cache-refresh-", 0).factory());
+    private final Semaphore refreshPermits;
+    private final boolean lockEnabled;
+    private final Duration lockTtl;
+    private final Duration lockWait;
+
+    public CacheLoadCoordinator(
+            CacheLockPort cacheLockPort,
+            MeterRegistry meterRegistry,
+            @Value("${job-navigator.cache.load-lock.enabled:false}") boolean lockEnabled,
+            @Value("${job-navigator.cache.load-lock.ttl:PT10S}") Duration lockTtl,
+            @Value("${job-navigator.cache.load-lock.wait:PT2S}") Duration lockWait,
+            @Value("${job-navigator.cache.refresh.max-concurrency:4}") int refreshMaxConcurrency) {
+        this.cacheLockPort = cacheLockPort;
+        this.lockEnabled = lockEnabled;
+        this.lockTtl = lockTtl;
+        this.lockWait = lockWait;
+        this.refreshPermits = new Semaphore(refreshMaxConcurrency);
+        this.leaderLoads = Counter.builder("job.cache.load.leader")
+                .description("Cache misses loaded by this caller")
+                .register(meterRegistry);
+        this.coalescedWaiters = Counter.builder("job.cache.load.coalesced")
+                .description("Cache misses that awaited an in-flight load on this instance")
+                .register(meterRegistry);
+        this.lockWaits = Counter.builder("job.cache.load.lock.waits")
+                .description("Cache misses that waited for another instance holding the load lock")
+                .register(meterRegistry);
+        this.refreshes = Counter.builder("job.cache.refresh")
+                .description("Background refreshes of stale cache entries")
+                .register(meterRegistry);
+        this.refreshesSkipped = Counter.builder("job.cache.refresh.skipped")
+                .description("Stale cache entries not refreshed because a load was in flight or the refresh pool was full")
+                .register(meterRegistry);
+        meterRegistry.gauge("job.cache.load.in-flight", inFlight, ConcurrentMap::size);
+    }
+
+    /**
+     * 캐시 미스 적재
+     * @param key 캐시 키
+     * @param cached 캐시 재조회 (다른 인스턴스가 적재했는지 확인용)
+     * @param loader 값을 계산하고 캐시에 저장하는 적재 함수
+     * @return 적재된 값 (다른 호출자가 적재했으면 그 결과)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<Optional<T>> cached, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalescedWaiters.increment();
+            Object value = await(existing);
+            if (value != null) {
+                return (T) value;
+            }
+            // 잠금을 얻지 못해 값 없이 끝난 백그라운드 갱신이면 직접 적재
+            return loader.get();
+        }
+        try {
+            leaderLoads.increment();
+            T value = lockEnabled ? loadWithLock(key, cached, loader) : loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * stale 항목 백그라운드 갱신 (호출자는 기다리지 않음)
+     * 같은 키가 이미 적재 중이거나 동시 갱신 수가 한도에 도달했으면 건너뛴다.
+     * @param key 캐시 키
+     * @param loader 값을 계산하고 캐시에 저장하는 적재 함수
+     */
+    public void refreshInBackground(String key, Supplier<?> loader) {
+        if (!refreshPermits.tryAcquire()) {
+            refreshesSkipped.increment();
+            return;
+        }
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            refreshPermits.release();
+            refreshesSkipped.increment();
+            return;
+        }
+        refreshes.increment();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    mine.complete(lockEnabled ? refreshWithLock(key, loader) : loader.get());
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh failed for {}", key, e);
+                    mine.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, mine);
+                    refreshPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            // 종료 중 등으로 제출하지 못한 경우
+            inFlight.remove(key, mine);
+            refreshPermits.release();
+            mine.completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * 다른 인스턴스가 잠금을 보유 중이면 그쪽에서 갱신하므로 건너뛴다.
+     */
+    private Object refreshWithLock(String key, Supplier<?> loader) {
+        Optional<String> token = cacheLockPort.tryLock(key, lockTtl);
+        if (token.isEmpty()) {
+            return null;
+        }
+        try {
+            return loader.get();
+        } finally {
+            cacheLockPort.unlock(key, token.get());
+        }
+    }
+
+    private <T> T loadWithLock(String key, Supplier<Optional<T>> cached, Supplier<T> loader) {
+        Optional<String> token = cacheLockPort.tryLock(key, lockTtl);
+        if (token.isPresent()) {
+            try {
+                return cached.get().orElseGet(loader);
+            } finally {
+                cacheLockPort.unlock(key, token.get());
+            }
+        }
+
+        // 다른 인스턴스가 적재 중 - 결과가 캐시에 생길 때까지 대기하고, 시간이 지나면 직접 적재
+        lockWaits.increment();
+        long deadline = System.nanoTime() + lockWait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            Optional<T> value = cached.get();
+            if (value.isPresent()) {
+                return value.get();
+            }
+        }
+        log.debug("Load lock wait timed out for {}, loading directly", key);
+        return loader.get();
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
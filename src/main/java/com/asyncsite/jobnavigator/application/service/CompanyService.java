@@ -2,6 +2,7 @@ package com.asyncsite.jobnavigator.application.service;
 
 import com.asyncsite.jobnavigator.adapter.in.web.dto.CompanyWithCountResponse;
 import com.asyncsite.jobnavigator.application.port.in.GetCompaniesUseCase;
+import com.asyncsite.jobnavigator.application.port.out.JobIndexPort;
 import com.asyncsite.jobnavigator.application.port.out.LoadCompanyPort;
 import com.asyncsite.jobnavigator.application.port.out.LoadJobPort;
 import com.asyncsite.jobnavigator.domain.Company;
@@ -25,6 +26,7 @@ public class CompanyService implements GetCompaniesUseCase {
     
     private final LoadCompanyPort loadCompanyPort;
     private final LoadJobPort loadJobPort;
+    private final JobIndexPort jobIndexPort;
     
     @Override
     public List<Company> getAllCompanies() {
@@ -45,8 +47,10 @@ public class CompanyService implements GetCompaniesUseCase {
         // 모든 회사 조회
         List<Company> companies = loadCompanyPort.loadAllCompanies();
         
-        // 회사별 채용공고 수 조회
-        Map<Long, Integer> jobCountByCompany = loadJobPort.countActiveJobsByCompany();
+        // 회사별 채용공고 수 조회 (인덱스가 준비되었으면 facet 개수 사용, 아니면 DB 집계)
+        Map<Long, Integer> jobCountByCompany = jobIndexPort.isReady()
+                ? jobIndexPort.facetCounts().byCompany()
+                : loadJobPort.countActiveJobsByCompany();
         
         // 결과 매핑
         return companies.stream()
@@ -0,0 +1,48 @@
+package com.asyncsite.jobnavigator.application.service;
+
+import com.asyncsite.jobnavigator.adapter.in.web.dto.ExperienceCategoryWithCountResponse;
+import com.asyncsite.jobnavigator.application.port.in.GetExperienceCategoriesUseCase;
+import com.asyncsite.jobnavigator.application.port.out.JobIndexPort;
+import com.asyncsite.jobnavigator.application.port.out.LoadJobPort;
+import com.asyncsite.jobnavigator.domain.ExperienceCategory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 경력 카테고리 관련 비즈니스 로직 구현
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ExperienceService implements GetExperienceCategoriesUseCase {
+    
+    private final LoadJobPort loadJobPort;
+    private final JobIndexPort jobIndexPort;
+    
+    @Override
+    public List<ExperienceCategoryWithCountResponse> getExperienceCategoriesWithJobCount() {
+        log.info("Getting experience categories with job count");
+        
+        // 인덱스가 준비되었으면 facet 개수 사용, 아니면 DB 집계
+        Map<ExperienceCategory, Integer> countMap = jobIndexPort.isReady()
+                ? jobIndexPort.facetCounts().byExperienceCategory()
+                : loadJobPort.countActiveJobsByExperienceCategory();
+        
+        // 모든 경력 카테고리에 대해 응답 생성
+        return Arrays.stream(ExperienceCategory.values())
+                .map(category -> ExperienceCategoryWithCountResponse.builder()
+                        .category(category.name())
+                        .displayName(category.getDisplayName())
+                        .jobCount(countMap.getOrDefault(category, 0))
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,83 @@
+package com.asyncsite.jobnavigator.application.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 일괄 저장 작업 실행기
+ * 작업을 가상 스레드에서 병렬로 실행하되, 동시에 실행되는 작업 수를 모든 배치가 공유하는 세마포어로 제한해
+ * DB 커넥션 풀이 고갈되지 않게 한다.
+ */
+@Component
+public class IngestTaskExecutor {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("job-ingest-shard-", 0).factory());
+    private final Semaphore permits;
+
+    public IngestTaskExecutor(@Value("${job-navigator.ingest.parallelism:4}") int parallelism) {
+        this.permits = new Semaphore(Math.max(1, parallelism));
+    }
+
+    /**
+     * 모든 작업을 실행하고 끝날 때까지 기다린다
+     * 일부 작업이 실패해도 나머지 작업은 끝까지 실행한 뒤 첫 실패를 다시 던진다.
+     */
+    void runAll(List<Runnable> tasks) {
+        if (tasks.size() == 1) {
+            runWithPermit(tasks.get(0));
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            futures.add(executor.submit(() -> runWithPermit(task)));
+        }
+        RuntimeException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause
+                            ? cause
+                            : new IllegalStateException("Ingest task failed", e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException("Interrupted while waiting for ingest tasks", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void runWithPermit(Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an ingest permit", e);
+        }
+        try {
+            task.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
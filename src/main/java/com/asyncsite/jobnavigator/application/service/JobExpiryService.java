@@ -0,0 +1,94 @@
+package com.asyncsite.jobnavigator.application.service;
+
+import com.asyncsite.jobnavigator.application.port.out.JobCachePort;
+import com.asyncsite.jobnavigator.application.port.out.JobIndexPort;
+import com.asyncsite.jobnavigator.application.port.out.SaveJobPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료된 채용공고 일괄 비활성화
+ * 만료 시각이 지난 활성 공고를 batch-size건씩 별도 트랜잭션으로 비활성화해 잠금을 짧게 유지하고,
+ * 커밋된 배치마다 해당 공고만 모든 인스턴스의 검색 인덱스와 상세 캐시에서 제거한다.
+ * 카탈로그 버전은 올리지 않으므로 검색 캐시는 유지되고, 캐시된 페이지에서는 조회 시 비활성 공고가 빠진다.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "job-navigator.expiry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JobExpiryService {
+
+    private final SaveJobPort saveJobPort;
+    private final JobIndexPort jobIndexPort;
+    private final JobCachePort jobCachePort;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Timer sweepTimer;
+    private final Timer batchTimer;
+    private final Counter deactivatedJobs;
+
+    public JobExpiryService(
+            SaveJobPort saveJobPort,
+            JobIndexPort jobIndexPort,
+            JobCachePort jobCachePort,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${job-navigator.expiry.batch-size:500}") int batchSize) {
+        this.saveJobPort = saveJobPort;
+        this.jobIndexPort = jobIndexPort;
+        this.jobCachePort = jobCachePort;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sweepTimer = Timer.builder("job.expiry.sweep")
+                .description("Duration of an expired-job sweep")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("job.expiry.batch")
+                .description("Duration of a single expired-job deactivation batch transaction")
+                .register(meterRegistry);
+        this.deactivatedJobs = Counter.builder("job.expiry.deactivated")
+                .description("Expired jobs deactivated by the sweeper")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${job-navigator.expiry.interval:PT10M}",
+               initialDelayString = "${job-navigator.expiry.initial-delay:PT1M}")
+    public void sweepExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        Timer.Sample sweep = Timer.start();
+        int deactivated = 0;
+        int batches = 0;
+        try {
+            List<Long> ids;
+            do {
+                Timer.Sample batch = Timer.start();
+                ids = transactionTemplate.execute(status -> saveJobPort.deactivateExpiredJobs(now, batchSize));
+                batch.stop(batchTimer);
+                batches++;
+                if (!ids.isEmpty()) {
+                    // 커밋된 뒤 해당 공고만 모든 인스턴스의 인덱스와 상세 캐시에서 제거
+                    jobIndexPort.removeEverywhere(ids);
+                    jobCachePort.evictJobs(ids);
+                    deactivatedJobs.increment(ids.size());
+                    deactivated += ids.size();
+                }
+            } while (ids.size() == batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Expired job sweep stopped after {} jobs: {}", deactivated, e.getMessage());
+        } finally {
+            long elapsedNanos = sweep.stop(sweepTimer);
+            if (deactivated > 0) {
+                log.info("Deactivated {} expired jobs in {} batches ({}ms)", deactivated, batches, elapsedNanos / 1_000_000);
+            }
+        }
+    }
+}
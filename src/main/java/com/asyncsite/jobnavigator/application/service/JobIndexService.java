@@ -0,0 +1,70 @@
+package com.asyncsite.jobnavigator.application.service;
+
+import com.asyncsite.jobnavigator.application.port.out.JobIndexPort;
+import com.asyncsite.jobnavigator.application.port.out.LoadJobPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채용공고 검색 인덱스 구성 및 재구성
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobIndexService {
+
+    private final LoadJobPort loadJobPort;
+    private final JobIndexPort jobIndexPort;
+    private final AtomicBoolean warmingUp = new AtomicBoolean();
+
+    /**
+     * 인덱스가 준비되었는지 확인하고, 아직이면 백그라운드에서 구성을 시작
+     * 구성되는 동안 호출 측은 DB 검색으로 대신한다.
+     * @return 지금 인덱스로 검색할 수 있는지 여부
+     */
+    public boolean isReadyOrWarmUp() {
+        if (jobIndexPort.isReady()) {
+            return true;
+        }
+        if (warmingUp.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("job-index-warmup").start(() -> {
+                try {
+                    ensureReady();
+                } catch (RuntimeException e) {
+                    log.error("Failed to build job search index", e);
+                } finally {
+                    warmingUp.set(false);
+                }
+            });
+        }
+        return false;
+    }
+
+    /**
+     * 인덱스가 아직 구성되지 않았으면 활성 채용공고로 구성
+     */
+    public void ensureReady() {
+        if (!jobIndexPort.isReady()) {
+            synchronized (this) {
+                if (!jobIndexPort.isReady()) {
+                    rebuildIndex();
+                }
+            }
+        }
+    }
+
+    /**
+     * 인덱스 전체 재구성
+     * 다른 인스턴스에서 저장된 채용공고를 반영하기 위해 주기적으로 실행된다.
+     */
+    @Scheduled(fixedDelayString = "${job-navigator.search.index.refresh-interval:PT5M}",
+               initialDelayString = "${job-navigator.search.index.refresh-interval:PT5M}")
+    public void rebuildIndex() {
+        log.info("Rebuilding job search index");
+        jobIndexPort.rebuild(loadJobPort::loadActiveJobs);
+    }
+}
@@ -3,22 +3,45 @@ package com.asyncsite.jobnavigator.application.service;
 import com.asyncsite.jobnavigator.adapter.in.web.GlobalExceptionHandler.DuplicateResourceException;
 import com.asyncsite.jobnavigator.application.port.in.*;
 import com.asyncsite.jobnavigator.application.port.out.*;
+import com.asyncsite.jobnavigator.application.port.out.JobCachePort.CachedSearchPage;
+import com.asyncsite.jobnavigator.application.port.out.JobIndexPort.IndexSearchResult;
+import com.asyncsite.jobnavigator.application.port.out.LoadJobPort.JobFingerprint;
+import com.asyncsite.jobnavigator.application.port.out.SaveCrawlLogPort.CrawlLogEntry;
+import com.asyncsite.jobnavigator.application.port.out.SaveCrawlLogPort.CrawlStatus;
 import com.asyncsite.jobnavigator.domain.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.HashSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +53,8 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class JobService implements SearchJobsUseCase, GetJobDetailUseCase, SaveJobUseCase, EvictAllCachesUseCase {
     
+    private static final Set<String> SORT_FIELDS = Set.of("relevance", "matchScore", "postedAt", "expiresAt", "createdAt");
+    
     private final LoadJobPort loadJobPort;
     private final SaveJobPort saveJobPort;
     private final LoadCompanyPort loadCompanyPort;
@@ -37,125 +62,188 @@ public class JobService implements SearchJobsUseCase, GetJobDetailUseCase, SaveJ
     private final LoadTechStackPort loadTechStackPort;
     private final SaveTechStackPort saveTechStackPort;
     private final JobCachePort jobCachePort;
+    private final JobIndexPort jobIndexPort;
+    private final JobIndexService jobIndexService;
+    private final SearchJobPort searchJobPort;
+    private final CacheLoadCoordinator cacheLoadCoordinator;
+    private final SearchQueryLogPort searchQueryLogPort;
+    private final SaveCrawlLogPort saveCrawlLogPort;
+    private final SaveRawHtmlPort saveRawHtmlPort;
+    private final LoadRawHtmlPort loadRawHtmlPort;
+    private final TransactionTemplate transactionTemplate;
+    private final IngestTaskExecutor ingestTaskExecutor;
+    
+    /** 검색 엔진 (index: 인메모리 인덱스, 준비 전에는 DB / database: 항상 DB) */
+    @Value("${job-navigator.search.engine:index}")
+    private String searchEngine;
+    
+    /** 일괄 저장 시 한 트랜잭션으로 묶는 공고 수 */
+    @Value("${job-navigator.ingest.chunk-size:200}")
+    private int ingestChunkSize;
     
+    /** 스트리밍 일괄 저장 시 한 번에 읽어 저장하는 공고 수 (메모리 상한) */
+    @Value("${job-navigator.ingest.stream-window-size:200}")
+    private int ingestStreamWindowSize;
+    
+    /**
+     * 캐시 미스 동시 적재를 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+     * (DB 접근은 각 어댑터의 트랜잭션에서 수행)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SearchJobsResult searchJobs(SearchJobsCommand command) {
         // 입력값 검증
         validateSearchCommand(command);
         
         log.info("Searching jobs with criteria: {}", command);
         
-        // 캐시 키 생성
-        // String cacheKey = generateCacheKey(command);
+        // 시작 시 예열할 검색 조건 기록 (커서 요청은 앞 페이지를 따라온 것이므로, 매칭 점수순은 사용자별 결과이므로 제외)
+        if (command.cursor() == null && !"matchScore".equals(command.sortBy())) {
+            searchQueryLogPort.record(command.withoutUserTechStacks());
+        }
+        return withMatchScores(searchJobsCached(command), command.userTechStackIds());
+    }
+    
+    /**
+     * 반환할 페이지 공고의 매칭 점수 계산 (페이지 ID 목록은 사용자와 무관하게 캐시되므로 점수는 매번 계산)
+     */
+    private SearchJobsResult withMatchScores(SearchJobsResult result, List<Long> userTechStackIds) {
+        if (userTechStackIds == null || userTechStackIds.isEmpty()) {
+            return result;
+        }
+        Set<Long> skills = userTechStackIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, Double> scores = new HashMap<>(result.jobs().size() * 2);
+        for (Job job : result.jobs()) {
+            scores.put(job.getId(), job.calculateMatchScoreByIds(skills));
+        }
+        return result.withMatchScores(scores);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SearchJobsResult replaySearch(SearchJobsCommand command) {
+        validateSearchCommand(command);
+        return searchJobsCached(command);
+    }
+    
+    private SearchJobsResult searchJobsCached(SearchJobsCommand command) {
+        // 캐시 키 생성 (카탈로그 버전 포함 - 공고가 변경되면 이전 결과는 조회되지 않음)
+        long catalogVersion = jobCachePort.getCatalogVersion();
+        String cacheKey = generateCacheKey(catalogVersion, command);
         
-        // 캐시에서 조회 - 필터링된 전체 결과를 캐시함
-        // Optional<List<Job>> cachedResult = jobCachePort.getCachedSearchResult(cacheKey);
-        // if (cachedResult.isPresent()) {
-        //     log.debug("Cache hit for search: {}", cacheKey);
-        //     List<Job> filteredJobs = cachedResult.get();
-        //     
-        //     // 페이징 처리
-        //     int start = command.page() * command.size();
-        //     int end = Math.min(start + command.size(), filteredJobs.size());
-        //     List<Job> pagedJobs = start < filteredJobs.size() ? 
-        //         filteredJobs.subList(start, end) : List.of();
-        //     
-        //     return new SearchJobsResult(
-        //             pagedJobs,
-        //             filteredJobs.size(),
-        //             (int) Math.ceil((double) filteredJobs.size() / command.size()),
-        //             command.page(),
-        //             command.size()
-        //     );
-        // }
+        Supplier<SearchJobsResult> loader = () -> {
+            SearchJobsResult result = executeSearch(command);
+            jobCachePort.cacheSearchResult(catalogVersion, cacheKey, result);
+            return result;
+        };
         
-        // 모든 활성 채용공고 조회
-        List<Job> allJobs = loadJobPort.loadActiveJobs();
-        log.debug("Loaded {} jobs from database", allJobs.size());
+        // 캐시에서 조회 - 요청 페이지의 ID 목록을 캐시함 (soft TTL이 지났으면 그대로 제공하고 백그라운드 갱신)
+        Optional<CachedSearchPage> cachedPage = jobCachePort.getCachedSearchPage(cacheKey);
+        if (cachedPage.isPresent()) {
+            log.debug("Cache hit for search: {} (stale: {})", cacheKey, cachedPage.get().stale());
+            if (cachedPage.get().stale()) {
+                cacheLoadCoordinator.refreshInBackground("search:" + cacheKey, loader);
+            }
+            return assemblePage(catalogVersion, cachedPage.get(), activeOnly(command));
+        }
         
-        // 필터링 로직 (임시 구현)
-        List<Job> filteredJobs = allJobs.stream()
-                .filter(job -> {
-                    if (command.keyword() != null && !command.keyword().isEmpty()) {
-                        return job.getTitle().toLowerCase().contains(command.keyword().toLowerCase()) ||
-                               job.getDescription().toLowerCase().contains(command.keyword().toLowerCase());
-                    }
-                    return true;
-                })
-                .filter(job -> {
-                    if (command.companyIds() != null && !command.companyIds().isEmpty()) {
-                        return command.companyIds().contains(job.getCompany().getId());
-                    }
-                    return true;
-                })
-                .filter(job -> {
-                    if (command.experienceLevel() != null && !command.experienceLevel().isEmpty()) {
-                        // experienceLevel should be enum name (ENTRY, JUNIOR, MID, etc.)
-                        return job.getExperienceCategory() != null && 
-                               job.getExperienceCategory().name().equals(command.experienceLevel());
-                    }
-                    return true;
-                })
-                .filter(job -> {
-                    if (command.techStackIds() != null && !command.techStackIds().isEmpty()) {
-                        // TechStack 필터링 로직 추가
-                        Set<Long> jobTechStackIds = new HashSet<>();
-                        if (job.getRequiredTechStacks() != null) {
-                            job.getRequiredTechStacks().forEach(ts -> jobTechStackIds.add(ts.getId()));
-                        }
-                        if (job.getPreferredTechStacks() != null) {
-                            job.getPreferredTechStacks().forEach(ts -> jobTechStackIds.add(ts.getId()));
-                        }
-                        // 요청된 TechStack ID 중 하나라도 포함되어 있으면 통과
-                        return command.techStackIds().stream()
-                                .anyMatch(jobTechStackIds::contains);
-                    }
-                    return true;
-                })
-                .filter(job -> {
-                    if (command.isActive() != null) {
-                        return job.isActive() == command.isActive();
-                    }
-                    return true;
-                })
+        // 같은 키의 동시 미스는 한 번만 적재
+        return cacheLoadCoordinator.load(
+                "search:" + cacheKey,
+                () -> jobCachePort.getCachedSearchPage(cacheKey).map(page -> assemblePage(catalogVersion, page, activeOnly(command))),
+                loader);
+    }
+    
+    /**
+     * 캐시된 ID 목록으로 페이지 구성
+     * 공고 본문은 상세 캐시에서 한 번에 읽고, 캐시에 없는 공고만 DB에서 조회해 상세 캐시에 채운다.
+     * 활성 공고 검색이면 페이지가 캐시된 뒤 비활성화(만료 정리 등)된 공고는 뺀다.
+     */
+    private SearchJobsResult assemblePage(long catalogVersion, CachedSearchPage page, boolean activeOnly) {
+        Map<Long, Job> jobs = new HashMap<>(jobCachePort.getCachedJobs(catalogVersion, page.jobIds()));
+        List<Long> missingIds = page.jobIds().stream()
+                .filter(jobId -> !jobs.containsKey(jobId))
                 .toList();
+        if (!missingIds.isEmpty()) {
+            List<Job> loaded = loadJobPort.loadJobs(missingIds);
+            loaded.forEach(job -> jobs.put(job.getId(), job));
+            jobCachePort.cacheJobs(catalogVersion, loaded);
+            log.debug("Loaded {} of {} page jobs missing from cache", loaded.size(), missingIds.size());
+        }
         
-        // 페이징 처리 (임시 구현)
-        int start = command.page() * command.size();
-        int end = Math.min(start + command.size(), filteredJobs.size());
-        List<Job> pagedJobs = filteredJobs.subList(start, end);
-        
-        // 캐시 저장 - 필터링된 전체 결과를 저장
-        // jobCachePort.cacheSearchResult(cacheKey, filteredJobs);
-        
+        List<Job> pagedJobs = page.jobIds().stream()
+                .map(jobs::get)
+                .filter(Objects::nonNull)
+                .filter(job -> !activeOnly || job.isActive())
+                .toList();
         return new SearchJobsResult(
                 pagedJobs,
-                filteredJobs.size(),
-                (int) Math.ceil((double) filteredJobs.size() / command.size()),
-                command.page(),
-                command.size()
+                page.totalElements(),
+                page.totalPages(),
+                page.currentPage(),
+                page.pageSize(),
+                page.nextCursor(),
+                Map.of()
         );
     }
     
+    private static boolean activeOnly(SearchJobsCommand command) {
+        return command.isActive() == null || command.isActive();
+    }
+    
+    private SearchJobsResult executeSearch(SearchJobsCommand command) {
+        SearchJobsResult result;
+        if ("database".equalsIgnoreCase(searchEngine) || !jobIndexService.isReadyOrWarmUp()) {
+            // DB 엔진: 필터링/페이징을 쿼리로 수행
+            result = searchJobPort.searchJobs(command);
+            log.debug("Database matched {} jobs, returning {}", result.totalElements(), result.jobs().size());
+        } else {
+            // 인덱스에서 필터링 후 요청 페이지만 조회
+            IndexSearchResult hits = jobIndexPort.search(command);
+            List<Job> pagedJobs = jobIndexPort.loadJobs(hits.jobIds());
+            log.debug("Index matched {} jobs, returning {}", hits.totalElements(), pagedJobs.size());
+            result = new SearchJobsResult(
+                    pagedJobs,
+                    hits.totalElements(),
+                    (int) Math.ceil((double) hits.totalElements() / command.size()),
+                    command.page(),
+                    command.size(),
+                    hits.nextCursor(),
+                    Map.of()
+            );
+        }
+        return result;
+    }
+    
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Job getJobDetail(Long jobId) {
         log.info("Getting job detail for id: {}", jobId);
         
-        // 캐시에서 조회
-        // Optional<Job> cachedJob = jobCachePort.getCachedJob(jobId);
-        // if (cachedJob.isPresent()) {
-        //     log.debug("Cache hit for job: {}", jobId);
-        //     return cachedJob.get();
-        // }
-        
-        // DB에서 조회
-        Job job = loadJobPort.loadJob(jobId)
-                .orElseThrow(() -> new NoSuchElementException("Job not found with id: " + jobId));
-        
-        // 캐시 저장
-        // jobCachePort.cacheJob(job);
+        // 캐시에서 조회 (조회 시작 시점 버전으로 저장해야 이후 변경분과 섞이지 않음)
+        long catalogVersion = jobCachePort.getCatalogVersion();
+        Optional<Job> cachedJob = jobCachePort.getCachedJob(catalogVersion, jobId);
+        if (cachedJob.isPresent()) {
+            log.debug("Cache hit for job: {}", jobId);
+            return cachedJob.get();
+        }
         
-        return job;
+        // DB에서 조회 후 캐시 저장 (같은 공고의 동시 미스는 한 번만 조회)
+        return cacheLoadCoordinator.load(
+                "job:v" + catalogVersion + ":" + jobId,
+                () -> jobCachePort.getCachedJob(catalogVersion, jobId),
+                () -> {
+                    Job job = loadJobPort.loadJob(jobId)
+                            .orElseThrow(() -> new NoSuchElementException("Job not found with id: " + jobId));
+                    jobCachePort.cacheJob(catalogVersion, job);
+                    return job;
+                });
+    }
+    
+    @Override
+    public String getJobRawHtml(Long jobId) {
+        return loadRawHtmlPort.loadRawHtml(jobId)
+                .orElseThrow(() -> new NoSuchElementException("Raw HTML not found for job id: " + jobId));
     }
     
     @Override
@@ -169,18 +257,347 @@ public class JobService implements SearchJobsUseCase, GetJobDetailUseCase, SaveJ
             throw new DuplicateResourceException("Job already exists with source URL: " + command.sourceUrl());
         }
         
-        // 회사 조회 또는 생성
-        Company company = loadCompanyPort.loadCompanyByName(command.companyName())
-                .orElseGet(() -> {
-                    Company newCompany = Company.create(
-                            command.companyName(),
-                            null, // nameEn
-                            command.companyWebsite(), // careerPageUrl로 사용
-                            null  // 로고 URL은 나중에 추가
-                    );
-                    return saveCompanyPort.saveCompany(newCompany);
-                });
+        // 회사 조회 또는 생성 (상주 사전 우선)
+        Company company = saveCompanyPort.getOrCreateCompany(Company.create(
+                command.companyName(),
+                null, // nameEn
+                command.companyWebsite(), // careerPageUrl로 사용
+                null  // 로고 URL은 나중에 추가
+        ));
+        
+        Job job = buildJob(command, company, techStackName -> saveTechStackPort.getOrCreateTechStack(
+                TechStack.create(techStackName, TechStack.Category.OTHER)));
+        
+        // 저장
+        Job savedJob = saveJobPort.saveJob(job);
+        if (command.rawHtml() != null && !command.rawHtml().isBlank()) {
+            saveRawHtmlPort.saveRawHtml(Map.of(savedJob.getId(), command.rawHtml()));
+        }
+        
+        // 커밋 이후 검색 인덱스 반영 및 캐시 무효화 (버전 증가)
+        afterCommit(() -> {
+            jobIndexPort.index(savedJob);
+            jobCachePort.bumpCatalogVersion();
+        });
+        
+        log.info("Job saved successfully with id: {}", savedJob.getId());
+        return savedJob.getId();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchSaveResult saveJobs(List<SaveJobCommand> commands, BatchSaveOptions options) {
+        return ingest(commands.iterator(), Math.max(1, commands.size()), options);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchSaveResult saveJobStream(Iterator<SaveJobCommand> commands, BatchSaveOptions options) {
+        return ingest(commands, ingestStreamWindowSize, options);
+    }
+    
+    /**
+     * 커맨드를 windowSize개씩 꺼내 저장 (메모리에 두는 커맨드는 한 윈도우분뿐)
+     * 요청 내 중복 판별, 전체 수집 비활성화, 수집 이력은 윈도우와 관계없이 요청 전체 기준으로 처리한다.
+     */
+    private BatchSaveResult ingest(Iterator<SaveJobCommand> commands, int windowSize, BatchSaveOptions options) {
+        if (options.fullCrawlCompany() != null && !options.upsert()) {
+            throw new IllegalArgumentException("fullCrawlCompany는 upsert 모드에서만 사용할 수 있습니다.");
+        }
+        log.info("Saving batch in windows of {} and chunks of {} (upsert: {})", windowSize, ingestChunkSize, options.upsert());
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        List<ItemResult> results = new ArrayList<>();
+        Set<String> sourceUrls = new HashSet<>();
+        Map<String, List<ItemResult>> itemsByCompany = new LinkedHashMap<>();
+        Set<String> fullCrawlUrls = new HashSet<>();
+        int windows = 0;
+        
+        while (commands.hasNext()) {
+            List<SaveJobCommand> window = new ArrayList<>(Math.min(windowSize, 1024));
+            while (window.size() < windowSize && commands.hasNext()) {
+                window.add(commands.next());
+            }
+            int offset = results.size();
+            ItemResult[] windowResults = saveWindow(window, sourceUrls, options.upsert());
+            for (int i = 0; i < window.size(); i++) {
+                SaveJobCommand command = window.get(i);
+                ItemResult item = offsetBy(windowResults[i], offset);
+                results.add(item);
+                if (command.companyName() != null && !command.companyName().isBlank()) {
+                    // 회사명은 대소문자를 무시하고 비교하므로 소문자로 묶는다 (planIngestShards와 같은 기준)
+                    itemsByCompany.computeIfAbsent(companyKey(command.companyName()), name -> new ArrayList<>()).add(item);
+                }
+                if (command.companyName() != null && command.companyName().equalsIgnoreCase(options.fullCrawlCompany())
+                        && command.sourceUrl() != null) {
+                    fullCrawlUrls.add(command.sourceUrl());
+                }
+            }
+            windows++;
+        }
+        
+        List<Long> deactivatedJobIds = options.fullCrawlCompany() != null
+                ? deactivateMissingJobs(options.fullCrawlCompany(), fullCrawlUrls)
+                : List.of();
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        BatchSaveResult result = new BatchSaveResult(List.copyOf(results), deactivatedJobIds, elapsedMillis);
+        recordCrawlLogs(itemsByCompany, startedAt);
+        
+        log.info("Batch saved: {} created, {} updated, {} unchanged, {} duplicate, {} invalid, {} deactivated " +
+                        "({} windows, {}ms, {} items/s)",
+                result.count(ItemStatus.CREATED), result.count(ItemStatus.UPDATED), result.count(ItemStatus.UNCHANGED),
+                result.count(ItemStatus.DUPLICATE), result.count(ItemStatus.INVALID), deactivatedJobIds.size(),
+                windows, elapsedMillis, String.format("%.1f", result.itemsPerSecond()));
+        return result;
+    }
+    
+    /**
+     * 윈도우 하나를 저장하고 윈도우 내 인덱스 기준 결과를 반환
+     * @param sourceUrls 요청에서 지금까지 본 sourceUrl (요청 내 중복 판별용, 이 윈도우의 URL이 추가된다)
+     */
+    private ItemResult[] saveWindow(List<SaveJobCommand> commands, Set<String> sourceUrls, boolean upsert) {
+        ItemResult[] results = new ItemResult[commands.size()];
+        
+        // 검증 실패와 요청 내 중복은 저장 시도 없이 결과에 기록
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            SaveJobCommand command = commands.get(i);
+            try {
+                validateSaveCommand(command);
+            } catch (IllegalArgumentException e) {
+                results[i] = ItemResult.invalid(i, command.sourceUrl(), e.getMessage());
+                continue;
+            }
+            if (!sourceUrls.add(command.sourceUrl())) {
+                results[i] = ItemResult.duplicate(i, command.sourceUrl(), null, "같은 요청에 동일한 sourceUrl이 이미 있습니다.");
+                continue;
+            }
+            pending.add(i);
+        }
+        
+        // 회사별 샤드를 가상 스레드에서 병렬 저장 (결과는 요청 인덱스 자리에 기록되므로 순서가 유지된다)
+        List<List<Integer>> shards = planIngestShards(commands, pending);
+        log.debug("Saving window of {} jobs in {} shards", pending.size(), shards.size());
+        ingestTaskExecutor.runAll(shards.stream()
+                .<Runnable>map(shard -> () -> saveShard(commands, shard, upsert, results))
+                .toList());
+        return results;
+    }
+    
+    private static ItemResult offsetBy(ItemResult item, int offset) {
+        return offset == 0 ? item
+                : new ItemResult(item.index() + offset, item.sourceUrl(), item.status(), item.jobId(), item.reason());
+    }
+    
+    /**
+     * 저장 대상을 회사별 샤드로 나눈다
+     * 한 회사의 공고는 항상 같은 샤드에 들어가 샤드끼리 같은 회사를 동시에 생성하거나 갱신하지 않는다.
+     * 작은 회사들은 청크 크기까지 한 샤드로 합치고, 청크 크기보다 큰 회사는 단독 샤드가 된다.
+     */
+    private List<List<Integer>> planIngestShards(List<SaveJobCommand> commands, List<Integer> pending) {
+        Map<String, List<Integer>> indexesByCompany = new LinkedHashMap<>();
+        for (Integer index : pending) {
+            indexesByCompany.computeIfAbsent(companyKey(commands.get(index).companyName()),
+                    company -> new ArrayList<>()).add(index);
+        }
+        List<List<Integer>> shards = new ArrayList<>();
+        List<Integer> current = new ArrayList<>();
+        for (List<Integer> companyIndexes : indexesByCompany.values()) {
+            if (!current.isEmpty() && current.size() + companyIndexes.size() > ingestChunkSize) {
+                shards.add(current);
+                current = new ArrayList<>();
+            }
+            current.addAll(companyIndexes);
+        }
+        if (!current.isEmpty()) {
+            shards.add(current);
+        }
+        return shards;
+    }
+    
+    /**
+     * 샤드 하나를 청크 단위로 순서대로 저장
+     */
+    private void saveShard(List<SaveJobCommand> commands, List<Integer> shard, boolean upsert, ItemResult[] results) {
+        for (int start = 0; start < shard.size(); start += ingestChunkSize) {
+            saveChunk(commands, shard.subList(start, Math.min(start + ingestChunkSize, shard.size())), upsert, results);
+        }
+    }
+    
+    /**
+     * 청크 하나를 한 트랜잭션으로 저장하고, 실패하면 항목별 트랜잭션으로 다시 시도해 실패 항목만 골라낸다.
+     * 결과는 커밋된 뒤에만 기록한다.
+     */
+    private void saveChunk(List<SaveJobCommand> commands, List<Integer> indexes, boolean upsert, ItemResult[] results) {
+        try {
+            Map<Integer, ItemResult> saved = transactionTemplate.execute(status -> writeChunk(commands, indexes, upsert));
+            saved.forEach((index, result) -> results[index] = result);
+        } catch (DataAccessException | IllegalArgumentException e) {
+            if (e instanceof TransientDataAccessException || e instanceof DataAccessResourceFailureException) {
+                // DB 장애는 항목 문제가 아니므로 INVALID로 기록하지 않고 호출자에게 알린다 (이미 커밋된 청크는 유지)
+                throw e;
+            }
+            if (indexes.size() > 1) {
+                log.warn("Chunk of {} jobs failed, retrying items individually: {}", indexes.size(), e.getMessage());
+                indexes.forEach(index -> saveChunk(commands, List.of(index), upsert, results));
+                return;
+            }
+            int index = indexes.get(0);
+            String sourceUrl = commands.get(index).sourceUrl();
+            log.warn("Failed to save job with source URL {}: {}", sourceUrl, e.getMessage());
+            results[index] = e instanceof DataIntegrityViolationException
+                    ? ItemResult.duplicate(index, sourceUrl, null, "동시에 저장된 sourceUrl입니다.")
+                    : ItemResult.invalid(index, sourceUrl, e.getMessage());
+        }
+    }
+    
+    private Map<Integer, ItemResult> writeChunk(List<SaveJobCommand> commands, List<Integer> indexes, boolean upsert) {
+        Map<Integer, ItemResult> results = new HashMap<>();
+        
+        // 이미 저장된 source_url을 한 번의 IN 조회로 확인
+        Map<String, JobFingerprint> fingerprints = loadJobPort.loadJobFingerprints(
+                indexes.stream().map(index -> commands.get(index).sourceUrl()).toList());
+        List<Integer> candidates = new ArrayList<>();
+        for (Integer index : indexes) {
+            String sourceUrl = commands.get(index).sourceUrl();
+            JobFingerprint fingerprint = fingerprints.get(sourceUrl);
+            if (fingerprint != null && !upsert) {
+                results.put(index, ItemResult.duplicate(index, sourceUrl, fingerprint.id(), "이미 저장된 sourceUrl입니다."));
+            } else {
+                candidates.add(index);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return results;
+        }
         
+        List<SaveJobCommand> candidateCommands = candidates.stream().map(commands::get).toList();
+        Map<String, Company> companies = resolveCompanies(candidateCommands);
+        Map<String, TechStack> techStacks = resolveTechStacks(candidateCommands);
+        
+        // 내용 해시가 같고 활성 상태인 공고는 쓰기 없이 건너뛴다
+        // 마감이 지나 비활성화된 공고도 내용이 같으면 다시 활성화하지 않고 건너뛴다 (만료 정리와 매일 번갈아 바뀌지 않도록)
+        List<Integer> createIndexes = new ArrayList<>();
+        List<Job> creates = new ArrayList<>();
+        List<Integer> updateIndexes = new ArrayList<>();
+        List<Job> updates = new ArrayList<>();
+        for (Integer index : candidates) {
+            SaveJobCommand command = commands.get(index);
+            Job job = buildJob(command, companies.get(companyKey(command.companyName())), techStacks::get);
+            JobFingerprint fingerprint = fingerprints.get(command.sourceUrl());
+            if (fingerprint == null) {
+                createIndexes.add(index);
+                creates.add(job);
+            } else if ((fingerprint.active() || job.isExpired()) && job.contentHash().equals(fingerprint.contentHash())) {
+                results.put(index, ItemResult.unchanged(index, command.sourceUrl(), fingerprint.id()));
+            } else {
+                updateIndexes.add(index);
+                updates.add(job.replacing(fingerprint.id()));
+            }
+        }
+        
+        List<Job> createdJobs = saveJobPort.saveJobs(creates);
+        for (int i = 0; i < createdJobs.size(); i++) {
+            Job createdJob = createdJobs.get(i);
+            results.put(createIndexes.get(i), ItemResult.created(createIndexes.get(i), createdJob.getSourceUrl(), createdJob.getId()));
+        }
+        List<Job> updatedJobs = saveJobPort.updateJobs(updates);
+        for (int i = 0; i < updates.size(); i++) {
+            Job updatedJob = updates.get(i);
+            results.put(updateIndexes.get(i), ItemResult.updated(updateIndexes.get(i), updatedJob.getSourceUrl(), updatedJob.getId()));
+        }
+        
+        // 원본 HTML은 별도 테이블에 압축 저장 (UNCHANGED 공고도 원본이 바뀌었으면 반영)
+        Map<Long, String> rawHtmlByJobId = new HashMap<>();
+        for (Integer index : candidates) {
+            String rawHtml = commands.get(index).rawHtml();
+            ItemResult result = results.get(index);
+            if (rawHtml != null && !rawHtml.isBlank() && result != null && result.jobId() != null) {
+                rawHtmlByJobId.put(result.jobId(), rawHtml);
+            }
+        }
+        saveRawHtmlPort.saveRawHtml(rawHtmlByJobId);
+        
+        // 커밋 이후 검색 인덱스 반영, 캐시 버전은 청크당 한 번만 증가
+        if (!createdJobs.isEmpty() || !updatedJobs.isEmpty()) {
+            afterCommit(() -> {
+                createdJobs.forEach(jobIndexPort::index);
+                updatedJobs.forEach(jobIndexPort::index);
+                jobCachePort.bumpCatalogVersion();
+            });
+        }
+        return results;
+    }
+    
+    /**
+     * 전체 수집 결과에 없는 회사의 활성 공고를 비활성화
+     * 요청에 그 회사의 공고가 하나도 없으면 수집 실패로 보고 비활성화하지 않는다.
+     */
+    private List<Long> deactivateMissingJobs(String companyName, Set<String> crawledUrls) {
+        if (crawledUrls.isEmpty()) {
+            log.warn("Full crawl for company {} contained no postings, skipping deactivation", companyName);
+            return List.of();
+        }
+        return transactionTemplate.execute(status -> {
+            Optional<Company> company = loadCompanyPort.loadCompanyByName(companyName);
+            if (company.isEmpty()) {
+                return List.<Long>of();
+            }
+            List<Long> deactivated = saveJobPort.deactivateJobsNotIn(company.get().getId(), crawledUrls);
+            if (!deactivated.isEmpty()) {
+                afterCommit(() -> {
+                    jobIndexPort.removeEverywhere(deactivated);
+                    jobCachePort.bumpCatalogVersion();
+                });
+            }
+            log.info("Deactivated {} jobs of company {} missing from the full crawl", deactivated.size(), companyName);
+            return deactivated;
+        });
+    }
+    
+    /**
+     * 회사별 수집 결과(발견/생성/갱신 수)를 수집 이력에 기록 (itemsByCompany의 키는 소문자 회사명)
+     * 기록 실패는 저장 결과에 영향을 주지 않는다.
+     */
+    private void recordCrawlLogs(Map<String, List<ItemResult>> itemsByCompany, LocalDateTime startedAt) {
+        if (itemsByCompany.isEmpty()) {
+            return;
+        }
+        LocalDateTime finishedAt = LocalDateTime.now();
+        try {
+            for (Company company : loadCompanyPort.loadCompaniesByNames(itemsByCompany.keySet())) {
+                List<ItemResult> items = itemsByCompany.get(companyKey(company.getName()));
+                if (items == null) {
+                    continue;
+                }
+                List<String> failures = items.stream()
+                        .filter(item -> item.status() == ItemStatus.INVALID)
+                        .map(ItemResult::reason)
+                        .distinct()
+                        .toList();
+                long failed = items.stream().filter(item -> item.status() == ItemStatus.INVALID).count();
+                CrawlStatus status = failed == 0 ? CrawlStatus.SUCCESS
+                        : failed == items.size() ? CrawlStatus.FAILED : CrawlStatus.PARTIAL;
+                saveCrawlLogPort.saveCrawlLog(new CrawlLogEntry(
+                        company.getId(),
+                        status,
+                        items.size(),
+                        (int) items.stream().filter(item -> item.status() == ItemStatus.CREATED).count(),
+                        (int) items.stream().filter(item -> item.status() == ItemStatus.UPDATED).count(),
+                        failures.isEmpty() ? null : String.join("; ", failures.subList(0, Math.min(5, failures.size()))),
+                        startedAt,
+                        finishedAt
+                ));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to record crawl logs: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 커맨드로 채용공고 도메인 모델 생성 (모든 기술 스택은 required로 추가)
+     */
+    private Job buildJob(SaveJobCommand command, Company company, Function<String, TechStack> techStackResolver) {
         // Job 생성 (기본 정보로 먼저 생성)
         Job job = Job.create(
                 company,
@@ -201,40 +618,89 @@ public class JobService implements SearchJobsUseCase, GetJobDetailUseCase, SaveJ
                 command.expiresAt()
         );
         
-        // 기술 스택 추가
+        // 기술 스택 추가 (나중에 분류 로직 추가 가능)
         if (command.techStackNames() != null) {
             for (String techStackName : command.techStackNames()) {
-                TechStack techStack = loadTechStackPort.loadTechStackByName(techStackName)
-                        .orElseGet(() -> {
-                            TechStack newTechStack = TechStack.create(
-                                    techStackName,
-                                    TechStack.Category.OTHER // 기본 카테고리
-                            );
-                            return saveTechStackPort.saveTechStack(newTechStack);
-                        });
-                // 모든 기술 스택을 required로 추가 (나중에 분류 로직 추가 가능)
-                job = job.addRequiredTechStack(techStack);
+                job = job.addRequiredTechStack(techStackResolver.apply(techStackName));
             }
         }
-        
-        // 저장
-        Job savedJob = saveJobPort.saveJob(job);
-        
-        // 캐시 무효화
-        // jobCachePort.evictAll();
-        
-        log.info("Job saved successfully with id: {}", savedJob.getId());
-        return savedJob.getId();
+        return job;
+    }
+    
+    /**
+     * 배치에 등장하는 회사를 한 번에 조회하고 없는 회사만 생성 (상주 사전에 없는 이름만 DB 조회)
+     * 회사명은 대소문자를 구분하지 않으므로 소문자 이름을 키로 반환한다 ({@link #companyKey}).
+     */
+    private Map<String, Company> resolveCompanies(List<SaveJobCommand> commands) {
+        Map<String, SaveJobCommand> firstByName = new LinkedHashMap<>();
+        for (SaveJobCommand command : commands) {
+            firstByName.putIfAbsent(companyKey(command.companyName()), command);
+        }
+        List<String> names = firstByName.values().stream().map(SaveJobCommand::companyName).toList();
+        Map<String, Company> companies = new HashMap<>();
+        for (Company company : loadCompanyPort.loadCompaniesByNames(names)) {
+            companies.put(companyKey(company.getName()), company);
+        }
+        firstByName.forEach((key, command) -> companies.computeIfAbsent(key, missing -> saveCompanyPort.getOrCreateCompany(
+                Company.create(command.companyName(), null, command.companyWebsite(), null))));
+        return companies;
+    }
+    
+    private static String companyKey(String companyName) {
+        return companyName.toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 배치에 등장하는 기술 스택을 한 번에 조회하고 없는 기술 스택만 생성 (상주 사전에 없는 이름만 DB 조회)
+     */
+    private Map<String, TechStack> resolveTechStacks(List<SaveJobCommand> commands) {
+        Set<String> names = new LinkedHashSet<>();
+        for (SaveJobCommand command : commands) {
+            if (command.techStackNames() != null) {
+                names.addAll(command.techStackNames());
+            }
+        }
+        Map<String, TechStack> techStacks = new HashMap<>();
+        for (TechStack techStack : loadTechStackPort.loadTechStacksByNames(names)) {
+            techStacks.put(techStack.getName(), techStack);
+        }
+        for (String name : names) {
+            techStacks.computeIfAbsent(name,
+                    missing -> saveTechStackPort.getOrCreateTechStack(TechStack.create(missing, TechStack.Category.OTHER)));
+        }
+        return techStacks;
     }
 
     @Override
-    public void evictAllCaches() {
-        // jobCachePort.evictAll();
-        log.info("Cache is disabled - evictAllCaches called but no action taken.");
+    public EvictAllCachesResult evictAllCaches() {
+        long startedAt = System.nanoTime();
+        long version = jobCachePort.bumpCatalogVersion();
+        long evictedKeys = jobCachePort.evictAll();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Evicted {} cache keys in {} ms, catalog version is now {}", evictedKeys, elapsedMillis, version);
+        return new EvictAllCachesResult(version, evictedKeys, elapsedMillis);
     }
     
-    private String generateCacheKey(SearchJobsCommand command) {
-        return String.format("search:%s:%s:%s:%s:%s:%s:%s:%d:%d:%s:%s",
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private String generateCacheKey(long catalogVersion, SearchJobsCommand command) {
+        // 사용자 기술 스택은 매칭 점수순일 때만 페이지 구성에 영향을 준다 (순서 무관하게 같은 키)
+        String userTechStacks = "matchScore".equals(command.sortBy())
+                ? ":" + command.userTechStackIds().stream().distinct().sorted().toList()
+                : "";
+        return String.format("v%d:%s:%s:%s:%s:%s:%s:%s:%d:%d:%s:%s:%s%s",
+                catalogVersion,
                 command.keyword() != null ? command.keyword() : "",
                 command.companyIds() != null ? command.companyIds().toString() : "",
                 command.techStackIds() != null ? command.techStackIds().toString() : "",
@@ -245,7 +711,9 @@ public class JobService implements SearchJobsUseCase, GetJobDetailUseCase, SaveJ
                 command.page(),
                 command.size(),
                 command.sortBy(),
-                command.sortDirection()
+                command.sortDirection(),
+                command.cursor() != null ? command.cursor() : "",
+                userTechStacks
         );
     }
     
@@ -269,5 +737,47 @@ public class JobService implements SearchJobsUseCase, GetJobDetailUseCase, SaveJ
         if (!"ASC".equals(command.sortDirection()) && !"DESC".equals(command.sortDirection())) {
             throw new IllegalArgumentException("정렬 방향은 ASC 또는 DESC여야 합니다.");
         }
+
+        // 정렬 기준 검증
+        if (command.sortBy() != null && !SORT_FIELDS.contains(command.sortBy())) {
+            throw new IllegalArgumentException("정렬 기준은 relevance, matchScore, postedAt, expiresAt, createdAt 중 하나여야 합니다.");
+        }
+        if ("matchScore".equals(command.sortBy())
+                && (command.userTechStackIds() == null || command.userTechStackIds().isEmpty())) {
+            throw new IllegalArgumentException("matchScore 정렬에는 userTechStackIds가 필요합니다.");
+        }
+        
+        // 커서 형식 검증 (잘못된 커서는 IllegalArgumentException)
+        SearchCursor.decode(command.cursor());
+    }
+    
+    private void validateSaveCommand(SaveJobCommand command) {
+        if (command.title() == null || command.title().isBlank()) {
+            throw new IllegalArgumentException("제목은 필수입니다.");
+        }
+        if (command.sourceUrl() == null || command.sourceUrl().isBlank()) {
+            throw new IllegalArgumentException("sourceUrl은 필수입니다.");
+        }
+        if (command.companyName() == null || command.companyName().isBlank()) {
+            throw new IllegalArgumentException("회사명은 필수입니다.");
+        }
+        if (!isEnumConstant(Job.JobType.class, command.jobType())) {
+            throw new IllegalArgumentException("고용 형태는 FULLTIME, CONTRACT, INTERN, PARTTIME 중 하나여야 합니다.");
+        }
+        if (!isEnumConstant(ExperienceCategory.class, command.experienceCategory())) {
+            throw new IllegalArgumentException("경력 수준은 ENTRY, JUNIOR, MID, SENIOR, LEAD, ANY 중 하나여야 합니다.");
+        }
+    }
+    
+    private static <E extends Enum<E>> boolean isEnumConstant(Class<E> type, String value) {
+        if (value == null) {
+            return false;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equals(value)) {
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
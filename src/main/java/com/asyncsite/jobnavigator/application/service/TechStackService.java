@@ -2,6 +2,7 @@ package com.asyncsite.jobnavigator.application.service;
 
 import com.asyncsite.jobnavigator.adapter.in.web.dto.TechStackWithCountResponse;
 import com.asyncsite.jobnavigator.application.port.in.GetTechStacksUseCase;
+import com.asyncsite.jobnavigator.application.port.out.JobIndexPort;
 import com.asyncsite.jobnavigator.application.port.out.LoadJobPort;
 import com.asyncsite.jobnavigator.application.port.out.LoadTechStackPort;
 import com.asyncsite.jobnavigator.domain.TechStack;
@@ -25,6 +26,7 @@ public class TechStackService implements GetTechStacksUseCase {
     
     private final LoadTechStackPort loadTechStackPort;
     private final LoadJobPort loadJobPort;
+    private final JobIndexPort jobIndexPort;
     
     @Override
     public List<TechStack> getAllTechStacks() {
@@ -61,8 +63,10 @@ public class TechStackService implements GetTechStacksUseCase {
         // 모든 기술 스택 조회
         List<TechStack> techStacks = loadTechStackPort.loadAllTechStacks();
         
-        // 기술스택별 채용공고 수 조회
-        Map<Long, Integer> jobCountByTechStack = loadJobPort.countActiveJobsByTechStack();
+        // 기술스택별 채용공고 수 조회 (인덱스가 준비되었으면 facet 개수 사용, 아니면 DB 집계)
+        Map<Long, Integer> jobCountByTechStack = jobIndexPort.isReady()
+                ? jobIndexPort.facetCounts().byTechStack()
+                : loadJobPort.countActiveJobsByTechStack();
         
         // 결과 매핑
         return techStacks.stream()
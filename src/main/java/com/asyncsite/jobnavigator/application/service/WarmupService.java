@@ -0,0 +1,127 @@
+package com.asyncsite.jobnavigator.application.service;
+
+import com.asyncsite.jobnavigator.application.port.in.GetCompaniesUseCase;
+import com.asyncsite.jobnavigator.application.port.in.GetExperienceCategoriesUseCase;
+import com.asyncsite.jobnavigator.application.port.in.GetTechStacksUseCase;
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase;
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchJobsCommand;
+import com.asyncsite.jobnavigator.application.port.out.JobIndexPort;
+import com.asyncsite.jobnavigator.application.port.out.SearchJobPort;
+import com.asyncsite.jobnavigator.application.port.out.SearchQueryLogPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 시 예열
+ * 배포 직후 첫 사용자가 인덱스 구성, facet 집계, 빈 캐시, JIT 미적용 비용을 치르지 않도록
+ * 애플리케이션 준비 직후 백그라운드에서 미리 실행한다.
+ * 완료되거나 기한이 지나기 전까지 readiness는 트래픽을 받지 않는 상태로 보고된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WarmupService {
+
+    /** 기록된 검색 조건이 없어도 항상 예열하는 기본 목록 조회 */
+    private static final SearchJobsCommand DEFAULT_LISTING = new SearchJobsCommand(
+            null, null, null, null, null, null, true, 0, 20, "postedAt", "DESC", null, null);
+
+    private final JobIndexService jobIndexService;
+    private final JobIndexPort jobIndexPort;
+    private final SearchJobPort searchJobPort;
+    private final SearchQueryLogPort searchQueryLogPort;
+    private final SearchJobsUseCase searchJobsUseCase;
+    private final GetCompaniesUseCase getCompaniesUseCase;
+    private final GetTechStacksUseCase getTechStacksUseCase;
+    private final GetExperienceCategoriesUseCase getExperienceCategoriesUseCase;
+
+    @Value("${job-navigator.warmup.enabled:true}")
+    private boolean enabled;
+
+    /** 이 시간이 지나면 예열이 끝나지 않아도 트래픽을 받음 */
+    @Value("${job-navigator.warmup.deadline:PT2M}")
+    private Duration deadline;
+
+    /** 재실행할 상위 검색 조건 수 */
+    @Value("${job-navigator.warmup.top-queries:50}")
+    private int topQueries;
+
+    /** 검색 경로 JIT 예열 반복 횟수 */
+    @Value("${job-navigator.warmup.jit-iterations:200}")
+    private int jitIterations;
+
+    private volatile long startedAtNanos;
+    private volatile boolean completed;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        startedAtNanos = System.nanoTime();
+        if (!enabled) {
+            completed = true;
+            return;
+        }
+        Thread.ofVirtual().name("job-warmup").start(this::warmUp);
+    }
+
+    /**
+     * 예열 완료 여부 (실패해도 완료로 본다)
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * 예열 시작 후 기한이 지났는지 여부
+     */
+    public boolean isDeadlineExceeded() {
+        return startedAtNanos != 0 && System.nanoTime() - startedAtNanos > deadline.toNanos();
+    }
+
+    private void warmUp() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 1. 검색 인덱스 구성
+            jobIndexService.ensureReady();
+
+            // 2. facet 개수 (인덱스에서 계산해 보관) 및 회사/기술 스택 조회
+            getCompaniesUseCase.getCompaniesWithJobCount();
+            getTechStacksUseCase.getTechStacksWithJobCount();
+            getExperienceCategoriesUseCase.getExperienceCategoriesWithJobCount();
+
+            // 3. 자주 요청된 검색 조건으로 캐시 채우기
+            List<SearchJobsCommand> queries = new ArrayList<>();
+            queries.add(DEFAULT_LISTING);
+            queries.addAll(searchQueryLogPort.loadTopQueries(topQueries));
+            List<SearchJobsCommand> replayed = new ArrayList<>(queries.size());
+            for (SearchJobsCommand query : queries) {
+                try {
+                    searchJobsUseCase.replaySearch(query);
+                    replayed.add(query);
+                } catch (RuntimeException e) {
+                    log.debug("Skipping warm-up query {}: {}", query, e.getMessage());
+                }
+            }
+
+            // 4. 검색 경로 JIT 예열 (캐시를 거치지 않고 인덱스와 DB 검색을 직접 실행)
+            searchJobPort.searchJobs(DEFAULT_LISTING);
+            for (int i = 0; i < jitIterations && !isDeadlineExceeded(); i++) {
+                for (SearchJobsCommand query : replayed) {
+                    jobIndexPort.search(query);
+                }
+            }
+            log.info("Warm-up completed in {}ms ({} queries replayed)", System.currentTimeMillis() - startedAt, replayed.size());
+        } catch (RuntimeException e) {
+            log.error("Warm-up failed after {}ms", System.currentTimeMillis() - startedAt, e);
+        } finally {
+            completed = true;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.asyncsite.jobnavigator.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -11,9 +12,11 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -52,6 +55,32 @@ public class RedisConfig {
         return template;
     }
     
+    /**
+     * 채용공고 캐시 전용 템플릿 (값 직렬화 방식은 RedisSerializer 빈으로 교체 가능)
+     */
+    @Bean
+    public RedisTemplate<String, Object> jobCacheRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            RedisSerializer<Object> jobCacheValueSerializer) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(jobCacheValueSerializer);
+        template.afterPropertiesSet();
+        return template;
+    }
+    
+    /**
+     * 캐시 무효화 pub/sub 구독용 리스너 컨테이너
+     */
+    @Bean
+    @ConditionalOnProperty(name = "job-navigator.cache.invalidation-bus", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+    
     @Bean
     public CacheManager cacheManager(
             RedisConnectionFactory connectionFactory,
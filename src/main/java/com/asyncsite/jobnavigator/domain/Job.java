@@ -7,8 +7,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -183,6 +187,34 @@ public class Job {
                 .build();
     }
     
+    /**
+     * 새로 수집한 내용으로 기존 공고를 대체할 때 사용 (기존 ID 부여, 마감되지 않았으면 활성 상태로 복원)
+     */
+    public Job replacing(Long existingId) {
+        LocalDateTime now = LocalDateTime.now();
+        return Job.builder()
+                .id(existingId)
+                .company(this.company)
+                .title(this.title)
+                .description(this.description)
+                .requirements(this.requirements)
+                .preferred(this.preferred)
+                .jobType(this.jobType)
+                .experienceRequirement(this.experienceRequirement)
+                .experienceCategory(this.experienceCategory)
+                .location(this.location)
+                .sourceUrl(this.sourceUrl)
+                .postedAt(this.postedAt)
+                .expiresAt(this.expiresAt)
+                .isActive(this.expiresAt == null || this.expiresAt.isAfter(now))
+                .requiredTechStacks(new HashSet<>(this.requiredTechStacks))
+                .preferredTechStacks(new HashSet<>(this.preferredTechStacks))
+                .crawledAt(this.crawledAt)
+                .createdAt(this.createdAt)
+                .updatedAt(now)
+                .build();
+    }
+    
     public boolean isExpired() {
         return expiresAt != null && LocalDateTime.now().isAfter(expiresAt);
     }
@@ -206,14 +238,78 @@ public class Job {
             }
         }
         
-        double requiredScore = requiredTechStacks.isEmpty() ? 1.0 : 
-                              (double) requiredMatches / requiredTechStacks.size();
-        double preferredScore = preferredTechStacks.isEmpty() ? 0.0 : 
-                               (double) preferredMatches / preferredTechStacks.size();
-        
+        return matchScore(requiredMatches, requiredTechStacks.size(), preferredMatches, preferredTechStacks.size());
+    }
+    
+    /**
+     * 기술 스택 ID 기준 매칭 점수 (calculateMatchScore와 같은 식)
+     */
+    public double calculateMatchScoreByIds(Set<Long> userTechStackIds) {
+        if (userTechStackIds == null || userTechStackIds.isEmpty()) {
+            return 0.0;
+        }
+        int requiredMatches = (int) requiredTechStacks.stream()
+                .filter(techStack -> userTechStackIds.contains(techStack.getId()))
+                .count();
+        int preferredMatches = (int) preferredTechStacks.stream()
+                .filter(techStack -> userTechStackIds.contains(techStack.getId()))
+                .count();
+        return matchScore(requiredMatches, requiredTechStacks.size(), preferredMatches, preferredTechStacks.size());
+    }
+    
+    /**
+     * 매칭 점수 (필수 일치율 70% + 우대 일치율 30%, 0.0 ~ 1.0)
+     * 필수 기술 스택이 없는 공고는 필수 조건을 모두 만족한 것으로 본다.
+     * 검색 인덱스도 같은 식으로 순위를 매긴다.
+     */
+    public static double matchScore(int requiredMatches, int requiredCount, int preferredMatches, int preferredCount) {
+        double requiredScore = requiredCount == 0 ? 1.0 : (double) requiredMatches / requiredCount;
+        double preferredScore = preferredCount == 0 ? 0.0 : (double) preferredMatches / preferredCount;
         return (requiredScore * 0.7) + (preferredScore * 0.3);
     }
     
+    /**
+     * 변경 감지용 내용 해시 (공백을 정규화한 본문 필드, 회사명, 기술 스택명의 SHA-256 hex)
+     * 같은 공고를 다시 수집했을 때 값이 같으면 저장을 생략한다. ID와 시각 필드는 포함하지 않는다.
+     */
+    public String contentHash() {
+        StringBuilder content = new StringBuilder(512);
+        for (String field : new String[] {
+                company != null ? company.getName() : null,
+                title, description, requirements, preferred,
+                jobType != null ? jobType.name() : null,
+                experienceRequirement,
+                experienceCategory != null ? experienceCategory.name() : null,
+                location, sourceUrl,
+                postedAt != null ? postedAt.toString() : null,
+                expiresAt != null ? expiresAt.toString() : null,
+                techStackNames(requiredTechStacks),
+                techStackNames(preferredTechStacks)}) {
+            content.append(normalize(field)).append('\u001F');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    private static String techStackNames(Set<TechStack> techStacks) {
+        if (techStacks == null) {
+            return null;
+        }
+        return techStacks.stream()
+                .map(techStack -> normalize(techStack.getName()).toLowerCase(Locale.ROOT))
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+    
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().replaceAll("\\s+", " ");
+    }
+    
     /**
      * JPA Entity로부터 Job 도메인 모델 복원
      */
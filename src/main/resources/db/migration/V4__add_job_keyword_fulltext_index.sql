@@ -0,0 +1,5 @@
+-- Full-text index for keyword search on the database path.
+-- The ngram parser (default ngram_token_size=2) tokenizes Hangul without relying on whitespace,
+-- so MATCH ... AGAINST can replace the unindexable LIKE '%keyword%' scans.
+ALTER TABLE job_postings
+ADD FULLTEXT INDEX ft_job_keyword (title, description) WITH PARSER ngram;
@@ -0,0 +1,7 @@
+-- Composite indexes for keyset (cursor) pagination on the database search path.
+-- WHERE is_active = true AND (sort_col, id) < (:key, :id) ORDER BY sort_col, id
+-- can seek into these instead of reading and discarding OFFSET rows.
+ALTER TABLE job_postings
+ADD INDEX idx_active_posted (is_active, posted_at, id),
+ADD INDEX idx_active_expires (is_active, expires_at, id),
+ADD INDEX idx_active_created (is_active, created_at, id);
@@ -0,0 +1,5 @@
+-- SHA-256 of the normalized posting content, used by the batch upsert to skip
+-- postings that the crawler re-sends unchanged. Existing rows stay NULL and are
+-- treated as changed the first time they are seen again.
+ALTER TABLE job_postings
+ADD COLUMN content_hash CHAR(64) NULL AFTER source_url;
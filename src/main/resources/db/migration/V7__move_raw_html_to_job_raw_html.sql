@@ -0,0 +1,14 @@
+-- Raw HTML moves out of the hot job_postings rows into its own table, gzip
+-- compressed and only read by the raw-view endpoint. content_hash is the SHA-256
+-- of the uncompressed HTML so unchanged re-crawls are not rewritten.
+-- job_postings.raw_html was never populated, so it is dropped without copying.
+CREATE TABLE job_raw_html (
+    job_posting_id BIGINT NOT NULL PRIMARY KEY,
+    content_hash CHAR(64) NOT NULL,
+    content LONGBLOB NOT NULL,
+    original_length INT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_job_raw_html_job FOREIGN KEY (job_posting_id) REFERENCES job_postings (id) ON DELETE CASCADE
+);
+
+ALTER TABLE job_postings DROP COLUMN raw_html;
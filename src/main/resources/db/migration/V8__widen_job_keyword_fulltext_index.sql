@@ -0,0 +1,8 @@
+-- The in-memory index searches title, description, requirements and preferred,
+-- so the database keyword path covers the same four columns.
+-- The application checks that ft_job_keyword spans all four columns and otherwise falls back to LIKE.
+ALTER TABLE job_postings
+DROP INDEX ft_job_keyword;
+
+ALTER TABLE job_postings
+ADD FULLTEXT INDEX ft_job_keyword (title, description, requirements, preferred) WITH PARSER ngram;
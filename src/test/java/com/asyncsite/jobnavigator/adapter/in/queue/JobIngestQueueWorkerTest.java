@@ -0,0 +1,149 @@
+package com.asyncsite.jobnavigator.adapter.in.queue;
+
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.BatchSaveResult;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.ItemResult;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.SaveJobCommand;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobIngestQueueWorkerTest {
+
+    private static final String FIRST = message("https://example.com/1");
+    private static final String SECOND = message("https://example.com/2");
+
+    private JobIngestQueue queue;
+    private SaveJobUseCase saveJobUseCase;
+    private SimpleMeterRegistry meterRegistry;
+    private JobIngestQueueWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        queue = mock(JobIngestQueue.class);
+        saveJobUseCase = mock(SaveJobUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new JobIngestQueueWorker(queue, saveJobUseCase, new ObjectMapper().findAndRegisterModules(),
+                meterRegistry, 100, Duration.ofSeconds(1), 1, Duration.ZERO, 3);
+    }
+
+    @Test
+    @DisplayName("저장에 성공한 메시지는 ack한다")
+    void acknowledgesSavedMessages() {
+        when(saveJobUseCase.saveJobs(anyList(), any())).thenReturn(result(
+                ItemResult.created(0, "https://example.com/1", 1L), ItemResult.unchanged(1, "https://example.com/2", 2L)));
+
+        worker.process(List.of(FIRST, SECOND));
+
+        verify(queue).ack(List.of(FIRST, SECOND));
+        verify(queue, never()).requeue(anyList());
+    }
+
+    @Test
+    @DisplayName("파싱할 수 없는 메시지와 검증에 실패한 메시지는 dead-letter로 보낸다")
+    void deadLettersMalformedAndInvalidMessages() {
+        when(saveJobUseCase.saveJobs(anyList(), any())).thenReturn(result(
+                ItemResult.invalid(0, "https://example.com/1", "제목은 필수입니다.")));
+
+        worker.process(List.of("{not json", FIRST));
+
+        verify(queue).deadLetter(eq("{not json"), anyString());
+        verify(queue).deadLetter(FIRST, "제목은 필수입니다.");
+        verify(queue).ack(List.of());
+        assertThat(meterRegistry.counter("job.ingest.queue.messages", "status", "malformed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일시적 오류는 실패 횟수를 세지 않고 배치를 되돌린다")
+    void requeuesTransientFailuresWithoutCounting() {
+        when(saveJobUseCase.saveJobs(anyList(), any()))
+                .thenThrow(new CannotCreateTransactionException("connection refused"));
+
+        worker.process(List.of(FIRST, SECOND));
+
+        verify(queue).requeue(List.of(FIRST, SECOND));
+        verify(queue, never()).recordFailure(anyString());
+        verify(queue, never()).deadLetter(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("max-attempts 전까지는 실패 횟수를 기록하고 배치를 되돌린다")
+    void requeuesUntilMaxAttempts() {
+        when(saveJobUseCase.saveJobs(anyList(), any())).thenThrow(new IllegalStateException("boom"));
+        when(queue.recordFailure(FIRST)).thenReturn(2);
+        when(queue.recordFailure(SECOND)).thenReturn(1);
+
+        worker.process(List.of(FIRST, SECOND));
+
+        verify(queue).recordFailure(FIRST);
+        verify(queue).recordFailure(SECOND);
+        verify(queue).requeue(List.of(FIRST, SECOND));
+        verify(queue, never()).deadLetter(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("max-attempts번 실패한 배치는 한 건씩 저장해 혼자서도 실패하는 메시지만 dead-letter로 보낸다")
+    void isolatesPoisonMessageAfterMaxAttempts() {
+        when(saveJobUseCase.saveJobs(argThat(commands -> commands != null && commands.size() > 1), any()))
+                .thenThrow(new IllegalStateException("boom"));
+        when(saveJobUseCase.saveJobs(argThat(commands -> isSingle(commands, "https://example.com/1")), any()))
+                .thenReturn(result(ItemResult.created(0, "https://example.com/1", 1L)));
+        when(saveJobUseCase.saveJobs(argThat(commands -> isSingle(commands, "https://example.com/2")), any()))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        when(queue.recordFailure(anyString())).thenReturn(3);
+
+        worker.process(List.of(FIRST, SECOND));
+
+        verify(queue).ack(List.of(FIRST));
+        verify(queue).deadLetter(eq(SECOND), argThat(reason -> reason.contains("3 attempts")));
+        verify(queue, never()).requeue(anyList());
+    }
+
+    @Test
+    @DisplayName("한 건씩 저장하다 일시적 오류가 나면 남은 메시지를 되돌린다")
+    void requeuesRemainingMessagesOnTransientFailureDuringIsolation() {
+        when(saveJobUseCase.saveJobs(argThat(commands -> commands != null && commands.size() > 1), any()))
+                .thenThrow(new IllegalStateException("boom"));
+        when(saveJobUseCase.saveJobs(argThat(commands -> isSingle(commands, "https://example.com/1")), any()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+        when(queue.recordFailure(anyString())).thenReturn(3);
+
+        worker.process(List.of(FIRST, SECOND));
+
+        verify(queue).requeue(List.of(FIRST, SECOND));
+        verify(queue, never()).deadLetter(anyString(), anyString());
+    }
+
+    private static boolean isSingle(List<SaveJobCommand> commands, String sourceUrl) {
+        return commands != null && commands.size() == 1 && sourceUrl.equals(commands.get(0).sourceUrl());
+    }
+
+    private static BatchSaveResult result(ItemResult... items) {
+        return new BatchSaveResult(List.of(items), List.of(), 1L);
+    }
+
+    private static String message(String sourceUrl) {
+        return """
+                {"title":"백엔드 개발자","sourceUrl":"%s","companyName":"Acme","jobType":"FULLTIME","experienceCategory":"MID"}
+                """.formatted(sourceUrl).strip();
+    }
+}
@@ -0,0 +1,134 @@
+package com.asyncsite.jobnavigator.adapter.out.cache;
+
+import com.asyncsite.jobnavigator.application.port.out.LoadCompanyPort;
+import com.asyncsite.jobnavigator.application.port.out.LoadTechStackPort;
+import com.asyncsite.jobnavigator.domain.Company;
+import com.asyncsite.jobnavigator.domain.ExperienceCategory;
+import com.asyncsite.jobnavigator.domain.Job;
+import com.asyncsite.jobnavigator.domain.TechStack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompactJobRedisSerializerTest {
+
+    private static final Company COMPANY = Company.withId(1L, "Acme", "Acme Corp", "https://acme.example.com", null,
+            LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 2, 0, 0));
+    private static final TechStack JAVA = TechStack.withId(10L, "Java", TechStack.Category.LANGUAGE);
+    private static final TechStack KAFKA = TechStack.withId(11L, "Kafka", TechStack.Category.TOOL);
+
+    private LoadCompanyPort loadCompanyPort;
+    private LoadTechStackPort loadTechStackPort;
+    private CompactJobRedisSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        loadCompanyPort = mock(LoadCompanyPort.class);
+        loadTechStackPort = mock(LoadTechStackPort.class);
+        when(loadCompanyPort.loadCompany(anyLong())).thenReturn(Optional.empty());
+        when(loadTechStackPort.loadTechStack(anyLong())).thenReturn(Optional.empty());
+        serializer = new CompactJobRedisSerializer(new CacheReferenceDictionary(loadCompanyPort, loadTechStackPort), 1024);
+    }
+
+    @Test
+    @DisplayName("채용공고의 모든 필드를 복원한다")
+    void jobRoundTrip() {
+        Job job = job("Spring 기반 서비스 개발");
+
+        Job restored = (Job) serializer.deserialize(serializer.serialize(job));
+
+        assertJobEquals(restored, job);
+    }
+
+    @Test
+    @DisplayName("임계값보다 큰 본문은 압축해서 저장하고 그대로 복원한다")
+    void compressesLargeValues() {
+        Job job = job("대용량 트래픽을 처리하는 백엔드 서비스를 개발합니다. ".repeat(200));
+
+        byte[] bytes = serializer.serialize(job);
+        Job restored = (Job) serializer.deserialize(bytes);
+
+        assertThat(bytes[1]).isEqualTo((byte) 1);
+        assertThat(bytes.length).isLessThan(job.getDescription().length());
+        assertJobEquals(restored, job);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 저장한 참조는 DB에서 복원하고, 없으면 캐시 미스로 본다")
+    void resolvesReferencesFromDatabase() {
+        byte[] bytes = serializer.serialize(job("본문"));
+        CompactJobRedisSerializer otherInstance = new CompactJobRedisSerializer(
+                new CacheReferenceDictionary(loadCompanyPort, loadTechStackPort), 1024);
+
+        assertThat(otherInstance.deserialize(bytes)).isNull();
+
+        when(loadCompanyPort.loadCompany(1L)).thenReturn(Optional.of(COMPANY));
+        when(loadTechStackPort.loadTechStack(10L)).thenReturn(Optional.of(JAVA));
+        when(loadTechStackPort.loadTechStack(11L)).thenReturn(Optional.of(KAFKA));
+        CompactJobRedisSerializer freshInstance = new CompactJobRedisSerializer(
+                new CacheReferenceDictionary(loadCompanyPort, loadTechStackPort), 1024);
+
+        assertJobEquals((Job) freshInstance.deserialize(bytes), job("본문"));
+    }
+
+    @Test
+    @DisplayName("검색 결과 페이지 ID 목록을 복원한다")
+    void searchPageRoundTrip() {
+        SearchPageEntry entry = new SearchPageEntry(List.of(3L, 1L, 2L), 42L, 3, 0, 20, "cursor", 1_700_000_000_000L);
+
+        assertThat(serializer.deserialize(serializer.serialize(entry))).isEqualTo(entry);
+
+        SearchPageEntry lastPage = new SearchPageEntry(List.of(), 0L, 0, 2, 20, null, 1L);
+        assertThat(serializer.deserialize(serializer.serialize(lastPage))).isEqualTo(lastPage);
+    }
+
+    @Test
+    @DisplayName("스키마 버전이 다른 값은 캐시 미스로 본다")
+    void ignoresOtherSchemaVersions() {
+        byte[] bytes = serializer.serialize(job("본문"));
+        bytes[0] = 1;
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+    }
+
+    private static void assertJobEquals(Job actual, Job expected) {
+        assertThat(actual).isNotNull();
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    private static Job job(String description) {
+        return Job.fromEntity(
+                100L,
+                COMPANY,
+                "백엔드 개발자",
+                description,
+                "Java 3년 이상",
+                null,
+                Job.JobType.FULLTIME,
+                "3년 이상",
+                ExperienceCategory.MID,
+                "서울 강남구",
+                "https://example.com/jobs/100",
+                LocalDateTime.of(2025, 5, 1, 9, 0),
+                null,
+                true,
+                Set.of(JAVA, KAFKA),
+                Set.of(),
+                LocalDateTime.of(2025, 5, 1, 10, 0, 0, 123_456_789),
+                LocalDateTime.of(2025, 5, 1, 10, 0),
+                LocalDateTime.of(2025, 5, 2, 10, 0)
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanNGramTokenizerTest {
+
+    @Test
+    @DisplayName("영문 바로 뒤에 붙은 조사는 버린다")
+    void dropsJosaAttachedToLatinWord() {
+        assertThat(query("Kotlin을 사용하는 팀")).containsExactly("kotlin", "사용", "용하", "하는", "팀");
+        assertThat(query("Spring에서")).containsExactly("spring");
+        assertThat(query("C++를 C#으로")).containsExactly("c++", "c#");
+    }
+
+    @Test
+    @DisplayName("띄어 쓴 한 음절과 세 음절 이상 구간은 조사로 보지 않는다")
+    void keepsDetachedOrLongSyllables() {
+        assertThat(query("React 이")).containsExactly("react", "이");
+        assertThat(query("Java으로부터")).containsExactly("java", "으로", "로부", "부터");
+    }
+
+    @Test
+    @DisplayName("C++, C# 표기를 유지하고 영문은 소문자로 바꾼다")
+    void keepsLanguageSymbols() {
+        assertThat(query("C++, C# 개발자")).containsExactly("c++", "c#", "개발", "발자");
+        assertThat(query("MSA/Node.js")).containsExactly("msa", "node", "js");
+    }
+
+    @Test
+    @DisplayName("문서는 음절 unigram도 만들고, 검색어는 한 음절 구간만 unigram으로 만든다")
+    void documentEmitsUnigrams() {
+        List<String> document = new ArrayList<>();
+        KoreanNGramTokenizer.tokenizeDocument("백엔드", document::add);
+
+        assertThat(document).containsExactly("백엔", "엔드", "백", "엔", "드");
+        assertThat(query("백엔드")).containsExactly("백엔", "엔드");
+        assertThat(query("팀")).containsExactly("팀");
+    }
+
+    @Test
+    @DisplayName("null은 토큰을 만들지 않는다")
+    void ignoresNull() {
+        assertThat(query(null)).isEmpty();
+    }
+
+    private static List<String> query(String text) {
+        List<String> tokens = new ArrayList<>();
+        KoreanNGramTokenizer.tokenizeQuery(text, tokens::add);
+        return tokens;
+    }
+}
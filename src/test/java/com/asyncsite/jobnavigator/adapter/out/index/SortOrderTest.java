@@ -0,0 +1,93 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+import com.asyncsite.jobnavigator.domain.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortOrderTest {
+
+    private static final LocalDateTime JAN_1 = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime JAN_3 = LocalDateTime.of(2025, 1, 3, 0, 0);
+
+    private List<Job> documents;
+    private SortOrder sortOrder;
+
+    @BeforeEach
+    void setUp() {
+        // ordinal 5는 삭제된 문서
+        documents = new ArrayList<>(Arrays.asList(
+                job(1L, JAN_1), job(2L, null), job(3L, JAN_3), job(4L, null), job(5L, JAN_1), null));
+        sortOrder = SortOrder.build(documents, SortField.POSTED_AT);
+    }
+
+    @Test
+    @DisplayName("값이 없는 문서는 오름차순, 내림차순 모두 마지막에 온다")
+    void nullsLastInBothDirections() {
+        assertThat(sortOrder.size()).isEqualTo(5);
+        assertThat(idsInOrder(false)).containsExactly(1L, 5L, 3L, 2L, 4L);
+        assertThat(idsInOrder(true)).containsExactly(3L, 5L, 1L, 4L, 2L);
+    }
+
+    @Test
+    @DisplayName("오름차순 커서 다음 순번")
+    void stepAfterAscending() {
+        assertThat(sortOrder.stepAfter(JAN_1, 1L, false)).isEqualTo(1);
+        assertThat(sortOrder.stepAfter(JAN_3, 3L, false)).isEqualTo(3);
+        assertThat(sortOrder.stepAfter(null, 2L, false)).isEqualTo(4);
+        assertThat(sortOrder.stepAfter(null, 4L, false)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("내림차순 커서 다음 순번 (값이 있는 마지막 문서 다음은 값이 없는 첫 문서)")
+    void stepAfterDescending() {
+        assertThat(sortOrder.stepAfter(JAN_3, 3L, true)).isEqualTo(1);
+        assertThat(sortOrder.stepAfter(JAN_1, 1L, true)).isEqualTo(3);
+        assertThat(sortOrder.stepAfter(null, 4L, true)).isEqualTo(4);
+        assertThat(sortOrder.stepAfter(null, 2L, true)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("커서 문서가 삭제되었어도 같은 위치에서 이어간다")
+    void stepAfterRemovedCursor() {
+        // (JAN_1, 3)은 (JAN_1, 1)과 (JAN_1, 5) 사이
+        assertThat(sortOrder.stepAfter(JAN_1, 3L, false)).isEqualTo(1);
+        assertThat(sortOrder.stepAfter(JAN_1, 3L, true)).isEqualTo(2);
+        // (null, 3)은 (null, 2)와 (null, 4) 사이
+        assertThat(sortOrder.stepAfter(null, 3L, false)).isEqualTo(4);
+        assertThat(sortOrder.stepAfter(null, 3L, true)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("stepOf는 ordinalAt의 역함수이고, 정렬 배열 생성 후 추가된 문서는 -1이다")
+    void stepOfInvertsOrdinalAt() {
+        for (boolean descending : new boolean[] {false, true}) {
+            for (int step = 0; step < sortOrder.size(); step++) {
+                assertThat(sortOrder.stepOf(sortOrder.ordinalAt(step, descending), descending)).isEqualTo(step);
+            }
+        }
+        assertThat(sortOrder.stepOf(5, false)).isEqualTo(-1);
+        assertThat(sortOrder.stepOf(6, true)).isEqualTo(-1);
+    }
+
+    private List<Long> idsInOrder(boolean descending) {
+        List<Long> ids = new ArrayList<>();
+        for (int step = 0; step < sortOrder.size(); step++) {
+            ids.add(documents.get(sortOrder.ordinalAt(step, descending)).getId());
+        }
+        return ids;
+    }
+
+    private static Job job(Long id, LocalDateTime postedAt) {
+        return Job.fromEntity(id, null, "title " + id, null, null, null, Job.JobType.FULLTIME, null, null, null,
+                "https://example.com/jobs/" + id, postedAt, null, true, Set.of(), Set.of(), null, null, null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.asyncsite.jobnavigator.adapter.out.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKCollectorTest {
+
+    @Test
+    @DisplayName("키가 큰 순서로 상위 K개만 남긴다")
+    void keepsHighestKeys() {
+        TopKCollector collector = new TopKCollector(3);
+        double[] keys = {0.5, 2.0, 1.0, 3.0, 0.1, 2.5};
+        for (int ordinal = 0; ordinal < keys.length; ordinal++) {
+            collector.offer(keys[ordinal], ordinal, ordinal);
+        }
+
+        assertThat(collector.drainInOrder()).containsExactly(3, 5, 1);
+    }
+
+    @Test
+    @DisplayName("키가 같으면 tie 값이 큰 문서가 앞선다")
+    void breaksTiesByTieValue() {
+        TopKCollector collector = new TopKCollector(2);
+        collector.offer(1.0, 10L, 0);
+        collector.offer(1.0, 30L, 1);
+        collector.offer(1.0, 20L, 2);
+
+        assertThat(collector.drainInOrder()).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("후보가 용량보다 적으면 모두 정렬해 반환한다")
+    void returnsAllWhenUnderCapacity() {
+        TopKCollector collector = new TopKCollector(5);
+        collector.offer(1.0, 1L, 7);
+        collector.offer(4.0, 2L, 8);
+
+        assertThat(collector.drainInOrder()).containsExactly(8, 7);
+    }
+
+    @Test
+    @DisplayName("용량이 0이면 아무것도 수집하지 않는다")
+    void zeroCapacity() {
+        TopKCollector collector = new TopKCollector(0);
+        collector.offer(1.0, 1L, 0);
+
+        assertThat(collector.drainInOrder()).isEmpty();
+    }
+}
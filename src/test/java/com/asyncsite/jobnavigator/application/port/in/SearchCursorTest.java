@@ -0,0 +1,93 @@
+package com.asyncsite.jobnavigator.application.port.in;
+
+import com.asyncsite.jobnavigator.application.port.in.SearchJobsUseCase.SearchCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 그대로 해석한다")
+    void roundTrip() {
+        LocalDateTime postedAt = LocalDateTime.of(2025, 3, 1, 9, 30);
+        SearchCursor cursor = new SearchCursor("postedAt", postedAt.toString(), 42L);
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode(), "postedAt");
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.dateKey()).isEqualTo(postedAt);
+    }
+
+    @Test
+    @DisplayName("정렬 값이 없는 공고의 커서는 정렬 키가 null이다")
+    void roundTripWithoutSortKey() {
+        SearchCursor decoded = SearchCursor.decode(new SearchCursor("expiresAt", null, 7L).encode(), "expiresAt");
+
+        assertThat(decoded.sortKey()).isNull();
+        assertThat(decoded.dateKey()).isNull();
+        assertThat(decoded.id()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("관련도 점수 커서")
+    void scoreKey() {
+        SearchCursor decoded = SearchCursor.decode(new SearchCursor("relevance", "1.25", 3L).encode(), "relevance");
+
+        assertThat(decoded.scoreKey()).isEqualTo(1.25f);
+    }
+
+    @Test
+    @DisplayName("비어 있는 커서는 null")
+    void blankCursor() {
+        assertThat(SearchCursor.decode(null)).isNull();
+        assertThat(SearchCursor.decode("  ", "postedAt")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+    void malformedCursor() {
+        assertThatThrownBy(() -> SearchCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SearchCursor.decode(encode("postedAt|2025-01-01T00:00|abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SearchCursor.decode(encode("no-separator")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SearchCursor.decode(encode("postedAt|yesterday|1")).dateKey())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준으로 만든 커서는 IllegalArgumentException")
+    void sortFieldMismatch() {
+        String cursor = new SearchCursor("relevance", "0.5", 1L).encode();
+
+        assertThatThrownBy(() -> SearchCursor.decode(cursor, "postedAt"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("정렬 기준");
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 없는 이전 형식 커서는 해석되지만 이어갈 수 없다")
+    void legacyCursor() {
+        String cursor = encode("2025-01-01T00:00|5");
+
+        SearchCursor decoded = SearchCursor.decode(cursor);
+
+        assertThat(decoded.sortField()).isNull();
+        assertThat(decoded.sortKey()).isEqualTo("2025-01-01T00:00");
+        assertThat(decoded.id()).isEqualTo(5L);
+        assertThatThrownBy(() -> SearchCursor.decode(cursor, "postedAt"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
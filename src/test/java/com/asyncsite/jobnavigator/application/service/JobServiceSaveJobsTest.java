@@ -0,0 +1,243 @@
+package com.asyncsite.jobnavigator.application.service;
+
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.BatchSaveOptions;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.BatchSaveResult;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.ItemResult;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.ItemStatus;
+import com.asyncsite.jobnavigator.application.port.in.SaveJobUseCase.SaveJobCommand;
+import com.asyncsite.jobnavigator.application.port.out.*;
+import com.asyncsite.jobnavigator.application.port.out.LoadJobPort.JobFingerprint;
+import com.asyncsite.jobnavigator.domain.Company;
+import com.asyncsite.jobnavigator.domain.ExperienceCategory;
+import com.asyncsite.jobnavigator.domain.Job;
+import com.asyncsite.jobnavigator.domain.TechStack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JobServiceSaveJobsTest {
+
+    private static final Company ACME = Company.withId(1L, "Acme", null, null, null, null, null);
+    private static final TechStack JAVA = TechStack.withId(10L, "Java", TechStack.Category.LANGUAGE);
+    private static final BatchSaveOptions UPSERT = new BatchSaveOptions(true, null);
+
+    @Mock private LoadJobPort loadJobPort;
+    @Mock private SaveJobPort saveJobPort;
+    @Mock private LoadCompanyPort loadCompanyPort;
+    @Mock private SaveCompanyPort saveCompanyPort;
+    @Mock private LoadTechStackPort loadTechStackPort;
+    @Mock private SaveTechStackPort saveTechStackPort;
+    @Mock private JobCachePort jobCachePort;
+    @Mock private JobIndexPort jobIndexPort;
+    @Mock private JobIndexService jobIndexService;
+    @Mock private SearchJobPort searchJobPort;
+    @Mock private CacheLoadCoordinator cacheLoadCoordinator;
+    @Mock private SearchQueryLogPort searchQueryLogPort;
+    @Mock private SaveCrawlLogPort saveCrawlLogPort;
+    @Mock private SaveRawHtmlPort saveRawHtmlPort;
+    @Mock private LoadRawHtmlPort loadRawHtmlPort;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService(loadJobPort, saveJobPort, loadCompanyPort, saveCompanyPort, loadTechStackPort,
+                saveTechStackPort, jobCachePort, jobIndexPort, jobIndexService, searchJobPort, cacheLoadCoordinator,
+                searchQueryLogPort, saveCrawlLogPort, saveRawHtmlPort, loadRawHtmlPort, transactionTemplate,
+                new IngestTaskExecutor(1));
+        ReflectionTestUtils.setField(jobService, "ingestChunkSize", 200);
+        ReflectionTestUtils.setField(jobService, "ingestStreamWindowSize", 200);
+
+        // 트랜잭션 없이 콜백을 바로 실행 (커밋 후 작업도 즉시 실행된다)
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(loadCompanyPort.loadCompaniesByNames(anyCollection())).thenReturn(List.of(ACME));
+        when(loadTechStackPort.loadTechStacksByNames(anyCollection())).thenReturn(List.of(JAVA));
+        when(saveJobPort.saveJobs(anyList())).thenAnswer(invocation -> {
+            List<Job> saved = new ArrayList<>();
+            for (Job job : invocation.<List<Job>>getArgument(0)) {
+                saved.add(job.replacing(100L + saved.size()));
+            }
+            return saved;
+        });
+        when(saveJobPort.updateJobs(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("처음 보는 sourceUrl은 새로 저장한다")
+    void createsNewJobs() {
+        when(loadJobPort.loadJobFingerprints(anyList())).thenReturn(Map.of());
+
+        BatchSaveResult result = jobService.saveJobs(List.of(command("https://example.com/1", null)), UPSERT);
+
+        assertThat(result.items()).extracting(ItemResult::status).containsExactly(ItemStatus.CREATED);
+        assertThat(result.createdJobIds()).containsExactly(100L);
+        verify(jobIndexPort).index(any(Job.class));
+        verify(jobCachePort).bumpCatalogVersion();
+    }
+
+    @Test
+    @DisplayName("내용 해시가 같은 활성 공고는 쓰지 않고 건너뛴다")
+    void skipsUnchangedActiveJob() {
+        SaveJobCommand command = command("https://example.com/1", null);
+        when(loadJobPort.loadJobFingerprints(anyList())).thenReturn(Map.of(
+                command.sourceUrl(), new JobFingerprint(7L, contentHash(command), true)));
+
+        BatchSaveResult result = jobService.saveJobs(List.of(command), UPSERT);
+
+        assertThat(result.items()).containsExactly(ItemResult.unchanged(0, command.sourceUrl(), 7L));
+        verify(saveJobPort).updateJobs(List.of());
+        verify(jobCachePort, never()).bumpCatalogVersion();
+    }
+
+    @Test
+    @DisplayName("내용이 바뀐 공고는 기존 ID로 갱신한다")
+    void updatesChangedJob() {
+        SaveJobCommand command = command("https://example.com/1", null);
+        when(loadJobPort.loadJobFingerprints(anyList())).thenReturn(Map.of(
+                command.sourceUrl(), new JobFingerprint(7L, "previous-hash", true)));
+
+        BatchSaveResult result = jobService.saveJobs(List.of(command), UPSERT);
+
+        assertThat(result.items()).containsExactly(ItemResult.updated(0, command.sourceUrl(), 7L));
+        assertThat(updatedJobs()).singleElement().satisfies(job -> {
+            assertThat(job.getId()).isEqualTo(7L);
+            assertThat(job.isActive()).isTrue();
+        });
+        verify(jobIndexPort).index(any(Job.class));
+    }
+
+    @Test
+    @DisplayName("비활성 공고가 마감 전이면 내용이 같아도 다시 활성화한다")
+    void reactivatesInactiveJob() {
+        SaveJobCommand command = command("https://example.com/1", LocalDateTime.now().plusDays(7));
+        when(loadJobPort.loadJobFingerprints(anyList())).thenReturn(Map.of(
+                command.sourceUrl(), new JobFingerprint(7L, contentHash(command), false)));
+
+        BatchSaveResult result = jobService.saveJobs(List.of(command), UPSERT);
+
+        assertThat(result.items()).extracting(ItemResult::status).containsExactly(ItemStatus.UPDATED);
+        assertThat(updatedJobs()).singleElement().satisfies(job -> assertThat(job.isActive()).isTrue());
+    }
+
+    @Test
+    @DisplayName("마감이 지나 비활성화된 공고는 내용이 같으면 다시 활성화하지 않는다")
+    void skipsExpiredInactiveJob() {
+        SaveJobCommand command = command("https://example.com/1", LocalDateTime.now().minusDays(1));
+        when(loadJobPort.loadJobFingerprints(anyList())).thenReturn(Map.of(
+                command.sourceUrl(), new JobFingerprint(7L, contentHash(command), false)));
+
+        BatchSaveResult result = jobService.saveJobs(List.of(command), UPSERT);
+
+        assertThat(result.items()).extracting(ItemResult::status).containsExactly(ItemStatus.UNCHANGED);
+        assertThat(updatedJobs()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("upsert가 아니면 이미 저장된 sourceUrl은 중복으로 기록한다")
+    void reportsDuplicatesWithoutUpsert() {
+        SaveJobCommand command = command("https://example.com/1", null);
+        when(loadJobPort.loadJobFingerprints(anyList())).thenReturn(Map.of(
+                command.sourceUrl(), new JobFingerprint(7L, contentHash(command), true)));
+
+        BatchSaveResult result = jobService.saveJobs(List.of(command, command), BatchSaveOptions.insertOnly());
+
+        assertThat(result.items()).extracting(ItemResult::status)
+                .containsExactly(ItemStatus.DUPLICATE, ItemStatus.DUPLICATE);
+        assertThat(result.items()).extracting(ItemResult::jobId).containsExactly(7L, null);
+        verify(saveJobPort, never()).saveJobs(anyList());
+    }
+
+    @Test
+    @DisplayName("전체 수집에 없는 회사 공고는 비활성화하고 모든 인스턴스의 인덱스에서 뺀다")
+    void deactivatesJobsMissingFromFullCrawl() {
+        when(loadJobPort.loadJobFingerprints(anyList())).thenReturn(Map.of());
+        when(loadCompanyPort.loadCompanyByName("acme")).thenReturn(Optional.of(ACME));
+        when(saveJobPort.deactivateJobsNotIn(eq(1L), anyCollection())).thenReturn(List.of(5L, 6L));
+
+        BatchSaveResult result = jobService.saveJobs(
+                List.of(command("https://example.com/1", null)), new BatchSaveOptions(true, "acme"));
+
+        assertThat(result.deactivatedJobIds()).containsExactly(5L, 6L);
+        verify(saveJobPort).deactivateJobsNotIn(1L, Set.of("https://example.com/1"));
+        verify(jobIndexPort).removeEverywhere(List.of(5L, 6L));
+    }
+
+    @Test
+    @DisplayName("전체 수집 요청에 그 회사 공고가 없으면 비활성화하지 않는다")
+    void skipsDeactivationWithoutCompanyPostings() {
+        BatchSaveResult result = jobService.saveJobs(
+                List.of(command("https://example.com/1", null)), new BatchSaveOptions(true, "Other"));
+
+        assertThat(result.deactivatedJobIds()).isEmpty();
+        verify(saveJobPort, never()).deactivateJobsNotIn(any(), anyCollection());
+    }
+
+    private List<Job> updatedJobs() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Job>> captor = ArgumentCaptor.forClass(List.class);
+        verify(saveJobPort).updateJobs(captor.capture());
+        return captor.getValue();
+    }
+
+    private static SaveJobCommand command(String sourceUrl, LocalDateTime expiresAt) {
+        return new SaveJobCommand(
+                "백엔드 개발자",
+                "Spring 기반 서비스 개발",
+                "Java 3년 이상",
+                null,
+                "서울",
+                "FULLTIME",
+                "MID",
+                "3년 이상",
+                sourceUrl,
+                "Acme",
+                null,
+                null,
+                List.of("Java"),
+                LocalDateTime.of(2025, 5, 1, 0, 0),
+                expiresAt,
+                null
+        );
+    }
+
+    /**
+     * 커맨드를 저장할 때와 같은 방식으로 만든 공고의 내용 해시
+     */
+    private static String contentHash(SaveJobCommand command) {
+        return Job.create(ACME, command.title(), command.description(), command.sourceUrl())
+                .withDetails(command.requirements(), command.preferred(), Job.JobType.valueOf(command.jobType()),
+                        command.experienceRequirement(), ExperienceCategory.valueOf(command.experienceCategory()),
+                        command.location(), command.postedAt(), command.expiresAt())
+                .addRequiredTechStack(JAVA)
+                .contentHash();
+    }
+}
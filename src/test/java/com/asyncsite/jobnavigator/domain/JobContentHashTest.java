@@ -0,0 +1,78 @@
+package com.asyncsite.jobnavigator.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobContentHashTest {
+
+    private static final Company COMPANY = Company.withId(1L, "Acme", null, null, null, null, null);
+    private static final TechStack JAVA = TechStack.withId(10L, "Java", TechStack.Category.LANGUAGE);
+    private static final TechStack SPRING = TechStack.withId(11L, "Spring", TechStack.Category.FRAMEWORK);
+    private static final LocalDateTime POSTED_AT = LocalDateTime.of(2025, 5, 1, 0, 0);
+
+    @Test
+    @DisplayName("ID, 활성 상태와 시각 필드는 해시에 영향을 주지 않는다")
+    void ignoresIdentityAndTimestamps() {
+        Job original = job(1L, "백엔드 개발자", List.of(JAVA, SPRING), true, LocalDateTime.of(2025, 5, 2, 0, 0));
+        Job recrawled = job(2L, "백엔드 개발자", List.of(JAVA, SPRING), false, LocalDateTime.of(2025, 6, 1, 12, 0));
+
+        assertThat(recrawled.contentHash()).isEqualTo(original.contentHash());
+    }
+
+    @Test
+    @DisplayName("기술 스택 순서와 공백 차이는 해시에 영향을 주지 않는다")
+    void normalizesWhitespaceAndTechStackOrder() {
+        Job original = job(1L, "백엔드 개발자", List.of(JAVA, SPRING), true, null);
+        Job reformatted = job(1L, "  백엔드\n\t개발자 ", List.of(SPRING, JAVA), true, null);
+
+        assertThat(reformatted.contentHash()).isEqualTo(original.contentHash());
+    }
+
+    @Test
+    @DisplayName("본문이나 기술 스택이 바뀌면 해시가 달라진다")
+    void changesWithContent() {
+        Job original = job(1L, "백엔드 개발자", List.of(JAVA, SPRING), true, null);
+
+        assertThat(job(1L, "프론트엔드 개발자", List.of(JAVA, SPRING), true, null).contentHash())
+                .isNotEqualTo(original.contentHash());
+        assertThat(job(1L, "백엔드 개발자", List.of(JAVA), true, null).contentHash())
+                .isNotEqualTo(original.contentHash());
+    }
+
+    @Test
+    @DisplayName("해시는 SHA-256 hex 문자열이다")
+    void isSha256Hex() {
+        assertThat(job(1L, "백엔드 개발자", List.of(), true, null).contentHash()).matches("[0-9a-f]{64}");
+    }
+
+    private static Job job(Long id, String title, List<TechStack> techStacks, boolean active, LocalDateTime crawledAt) {
+        return Job.fromEntity(
+                id,
+                COMPANY,
+                title,
+                "Spring 기반 서비스 개발",
+                "Java 3년 이상",
+                "Kotlin 경험",
+                Job.JobType.FULLTIME,
+                "3년 이상",
+                ExperienceCategory.MID,
+                "서울 강남구",
+                "https://example.com/jobs/1",
+                POSTED_AT,
+                null,
+                active,
+                new LinkedHashSet<>(techStacks),
+                Set.of(),
+                crawledAt,
+                crawledAt,
+                crawledAt
+        );
+    }
+}